@@ -89,7 +89,8 @@ dependencies {
     implementation("com.google.code.gson:gson:2.13.2")
     implementation("org.apache.commons:commons-lang3:3.20.0")
     implementation("androidx.annotation:annotation:1.9.1")
-    implementation("org.jetbrains.kotlinx:kotlinx-coroutines-core:1.10.2")
+    // Flow is part of the public API
+    api("org.jetbrains.kotlinx:kotlinx-coroutines-core:1.10.2")
     implementation("org.jetbrains.kotlinx:kotlinx-coroutines-android:1.10.2")
 
     implementation("com.google.android.gms:play-services-wallet:19.5.0")
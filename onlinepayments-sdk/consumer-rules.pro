@@ -7,6 +7,12 @@
 #
 # Please contact Worldline for questions regarding license and user rights.
 
-# The lines below ensure that API JSON serialisation/deserialisation succeeds when using obfuscation.
--keep class com.onlinepayments.sdk.client.android.domain.** { *; }
--keep class com.onlinepayments.sdk.client.android.infrastructure.apiModels.** { *; }
+# The API models and response types are read and written by the SDK's own streaming Gson adapters and need no
+# rules. The lines below keep the classes that Gson still (de)serializes through reflection when using obfuscation:
+# the request bodies and the currency conversion responses.
+-keep class com.onlinepayments.sdk.client.android.domain.PaymentContext { *; }
+-keep class com.onlinepayments.sdk.client.android.domain.PaymentContextWithAmount { *; }
+-keep class com.onlinepayments.sdk.client.android.domain.card.** { *; }
+-keep class com.onlinepayments.sdk.client.android.domain.currencyConversion.** { *; }
+-keep class com.onlinepayments.sdk.client.android.domain.iin.IinDetailsRequest { *; }
+-keep class com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationRequest { *; }
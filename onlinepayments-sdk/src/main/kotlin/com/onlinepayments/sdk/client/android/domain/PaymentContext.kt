@@ -10,6 +10,7 @@
 
 package com.onlinepayments.sdk.client.android.domain
 
+import com.onlinepayments.sdk.client.android.infrastructure.cache.PaymentContextKey
 import java.io.Serializable
 
 /**
@@ -17,10 +18,41 @@ import java.io.Serializable
  * It contains information about a payment, like its [AmountOfMoney] and countryCode.
  */
 open class PaymentContext(
-    var amountOfMoney: AmountOfMoney,
-    var countryCode: String? = null,
-    var isRecurring: Boolean? = false
+    amountOfMoney: AmountOfMoney,
+    countryCode: String? = null,
+    isRecurring: Boolean? = false
 ) : Serializable {
+    var amountOfMoney: AmountOfMoney = amountOfMoney
+        set(value) {
+            field = value
+            contextKey = null
+        }
+
+    var countryCode: String? = countryCode
+        set(value) {
+            field = value
+            contextKey = null
+        }
+
+    var isRecurring: Boolean? = isRecurring
+        set(value) {
+            field = value
+            contextKey = null
+        }
+
+    @Transient
+    private var contextKey: PaymentContextKey? = null
+
+    /**
+     * Cache key of this payment context, computed once and reset whenever one of its fields changes.
+     */
+    internal val cacheKey: PaymentContextKey
+        get() = contextKey ?: PaymentContextKey(
+            amount = amountOfMoney.amount,
+            countryCode = countryCode,
+            isRecurring = isRecurring,
+            currencyCode = amountOfMoney.currencyCode
+        ).also { contextKey = it }
 
     constructor(amountOfMoney: AmountOfMoney) : this(amountOfMoney, null, false)
 
@@ -20,7 +20,7 @@ class AccountOnFile internal constructor(
     val id: String,
     val paymentProductId: Int,
     val label: String?,
-    private val attributes: List<AccountOnFileAttribute>,
+    internal val attributes: List<AccountOnFileAttribute>,
     private val attributeByKey: Map<String, AccountOnFileAttribute>
 ) : Serializable {
 
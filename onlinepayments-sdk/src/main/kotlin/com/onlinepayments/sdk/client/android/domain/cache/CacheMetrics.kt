@@ -0,0 +1,35 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.cache
+
+/**
+ * Cache statistics of a single endpoint, counted since the SDK instance was created.
+ *
+ * @param hits Lookups answered from the cache, including expired values served while being refreshed.
+ * @param misses Lookups that had to wait for a network call.
+ * @param negativeHits Lookups answered with a cached "not found" response.
+ * @param expirations Entries removed because their time-to-live had passed.
+ * @param evictions Entries removed to make room for new entries.
+ * @param inFlightWaits Lookups that joined a network call already started by another caller for the same key.
+ * @param retries Network calls that were repeated after a network error, see
+ *   [com.onlinepayments.sdk.client.android.domain.configuration.RetryConfiguration].
+ * @param loadTimes Durations of the network calls made to fill the cache.
+ */
+data class CacheMetrics(
+    val hits: Long,
+    val misses: Long,
+    val negativeHits: Long,
+    val expirations: Long,
+    val evictions: Long,
+    val inFlightWaits: Long,
+    val retries: Long,
+    val loadTimes: LoadTimeHistogram,
+)
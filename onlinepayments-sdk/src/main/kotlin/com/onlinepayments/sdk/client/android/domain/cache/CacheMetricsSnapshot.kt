@@ -0,0 +1,22 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.cache
+
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+
+/**
+ * Point-in-time copy of the cache statistics of an SDK instance.
+ *
+ * @param endpoints Statistics per endpoint. Every [ApiEndpoint] is present, also when it was never called.
+ */
+data class CacheMetricsSnapshot(
+    val endpoints: Map<ApiEndpoint, CacheMetrics>,
+)
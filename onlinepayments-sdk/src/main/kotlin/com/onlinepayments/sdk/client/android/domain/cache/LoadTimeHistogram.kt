@@ -0,0 +1,34 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.cache
+
+/**
+ * Histogram of the durations of cache loads.
+ *
+ * [counts] has one more element than [bucketUpperBoundsMillis]: `counts[i]` is the number of loads that took at most
+ * `bucketUpperBoundsMillis[i]` milliseconds (and more than the previous bound), the last element counts the loads
+ * that took longer than the highest bound.
+ *
+ * @param bucketUpperBoundsMillis Inclusive upper bounds of the buckets in milliseconds, in ascending order.
+ * @param counts Number of loads per bucket.
+ * @param totalMillis Sum of the durations of all loads in milliseconds.
+ */
+data class LoadTimeHistogram(
+    val bucketUpperBoundsMillis: List<Long>,
+    val counts: List<Long>,
+    val totalMillis: Long,
+) {
+    /**
+     * Total number of loads.
+     */
+    val loads: Long
+        get() = counts.sum()
+}
@@ -0,0 +1,51 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.card
+
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionResponse
+import com.onlinepayments.sdk.client.android.domain.exceptions.SdkException
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
+import java.io.Serializable
+
+/**
+ * Everything the card form needs once the first digits of a card number are known.
+ *
+ * Only [iinDetails] is always present. The other parts are retrieved when the IIN is supported in the payment
+ * context and, for the surcharge and the currency conversion quote, when requested in [CardResolutionOptions]. A part
+ * that could not be retrieved does not fail the whole resolution; its error is reported in [errors] instead.
+ *
+ * @param iinDetails The IIN details of the card number
+ * @param paymentProduct The details of the payment product of the card
+ * @param surchargeCalculation The surcharge for the card
+ * @param currencyConversion The currency conversion quote for the card
+ * @param errors The error of every part that could not be retrieved, by the endpoint it was retrieved from
+ */
+class CardResolution internal constructor(
+    val iinDetails: IinDetailsResponse,
+    val paymentProduct: PaymentProduct? = null,
+    val surchargeCalculation: SurchargeCalculationResponse? = null,
+    val currencyConversion: CurrencyConversionResponse? = null,
+    val errors: Map<ApiEndpoint, SdkException> = emptyMap()
+) : Serializable {
+    /**
+     * Whether every part that was to be retrieved was retrieved.
+     */
+    val isComplete: Boolean
+        get() = errors.isEmpty()
+
+    companion object {
+        @Suppress("Unused")
+        private const val serialVersionUID = -6518032257461720903L
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.card
+
+/**
+ * Selects what [com.onlinepayments.sdk.client.android.facade.OnlinePaymentsSdk.resolveCard] retrieves next to the
+ * IIN details and the payment product.
+ *
+ * @param surchargeCalculation Whether the surcharge for the card is calculated
+ * @param currencyConversion Whether a currency conversion (DCC) quote for the card is retrieved
+ */
+data class CardResolutionOptions @JvmOverloads constructor(
+    val surchargeCalculation: Boolean = false,
+    val currencyConversion: Boolean = false,
+)
@@ -0,0 +1,34 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.configuration
+
+import java.util.EnumSet
+
+/**
+ * The Client API endpoints called by the SDK. Used to configure per-endpoint behaviour, like cache policies.
+ */
+enum class ApiEndpoint(internal val cacheKeyPrefix: String) {
+    PAYMENT_PRODUCTS("getPaymentProducts"),
+    PAYMENT_PRODUCT("getPaymentProduct"),
+    PAYMENT_PRODUCT_NETWORKS("getPaymentProductNetworks"),
+    IIN_DETAILS("getIinDetails"),
+    CURRENCY_CONVERSION_QUOTE("getCurrencyConversionQuote"),
+    SURCHARGE_CALCULATION("getSurchargeCalculation"),
+    PUBLIC_KEY("getPublicKey");
+
+    internal companion object {
+        /**
+         * Endpoints returning payment product metadata that is not bound to a client session. Product lists and
+         * product details are not among them, since they include the accounts on file of the session.
+         */
+        val SHAREABLE_ENDPOINTS: Set<ApiEndpoint> = EnumSet.of(PAYMENT_PRODUCT_NETWORKS)
+    }
+}
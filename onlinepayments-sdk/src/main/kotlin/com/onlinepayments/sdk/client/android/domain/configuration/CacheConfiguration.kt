@@ -0,0 +1,72 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.configuration
+
+/**
+ * Configuration of the caches used by the SDK.
+ *
+ * @param maxEntries Maximum number of responses kept in memory across all endpoints.
+ * @param maxMemoryBytes Approximate memory budget of the in-memory cache in bytes. `0`, the default, derives the
+ *   budget from the memory class of the device, so low-RAM devices keep fewer responses in memory.
+ * @param ttlMillis Time-to-live in milliseconds of responses of endpoints without a policy in [policies].
+ * @param policies Cache policies per endpoint, overriding the TTL, capacity and eviction weight of that endpoint.
+ * @param negativeTtlMillis Time-to-live in milliseconds of "not found" responses, like unknown IINs and unavailable
+ *   payment products. These are cached apart from regular responses, so a repeated lookup fails without a network
+ *   call. `0` disables caching "not found" responses.
+ * @param negativeMaxEntries Maximum number of "not found" responses kept in memory.
+ * @param diskCacheEnabled Whether payment product metadata (product lists, product details and networks)
+ *   is also persisted in the application's cache directory, so it survives app restarts. Networks read from disk
+ *   are returned right away and refreshed in the background. Product lists and product details are fetched from the
+ *   network first; since accounts on file are never persisted, their persisted copy is only returned when the
+ *   network fails. Disabled by default.
+ * @param diskCacheMaxBytes Maximum size of the disk cache in bytes. Least recently used entries are removed
+ *   when the limit is exceeded.
+ * @param diskCacheTtlMillis Time-to-live of disk cache entries in milliseconds.
+ * @param httpCacheEnabled Whether payment product network responses are stored in an HTTP cache in the application's
+ *   cache directory. Requests then no longer carry a unique cache-busting parameter, so a response the server marked
+ *   as cacheable is reused, and revalidated with its `ETag` or `Last-Modified` header once stale; an unchanged
+ *   response costs a `304 Not Modified` instead of a full download. Product lists and product details contain the
+ *   accounts on file of the session, so they are never stored in the HTTP cache. Disabled by default.
+ * @param httpCacheMaxBytes Maximum size of the HTTP cache in bytes.
+ * @param maxStalenessMillis Enables stale-while-revalidate for payment product lists, product details and
+ *   product networks: an entry that expired less than this many milliseconds ago is returned immediately while
+ *   it is refreshed in the background. `0`, the default, disables serving stale entries.
+ * @param shareAcrossSessions Whether payment product networks are cached per merchant (customer ID and Client API
+ *   URL) for the whole process instead of per SDK instance, so a new client session reuses the networks fetched by
+ *   earlier ones. Session-bound responses are never shared: product lists and product details, which include the
+ *   accounts on file of the session, the public key and currency conversion quotes. The configuration of the first
+ *   SDK instance of a merchant determines the limits of the shared cache. Disabled by default.
+ */
+data class CacheConfiguration @JvmOverloads constructor(
+    val maxEntries: Int = DEFAULT_MAX_ENTRIES,
+    val maxMemoryBytes: Long = 0,
+    val ttlMillis: Long = DEFAULT_TTL_MILLIS,
+    val policies: Map<ApiEndpoint, CachePolicy> = emptyMap(),
+    val negativeTtlMillis: Long = DEFAULT_NEGATIVE_TTL_MILLIS,
+    val negativeMaxEntries: Int = DEFAULT_NEGATIVE_MAX_ENTRIES,
+    val diskCacheEnabled: Boolean = false,
+    val diskCacheMaxBytes: Long = DEFAULT_DISK_CACHE_MAX_BYTES,
+    val diskCacheTtlMillis: Long = DEFAULT_DISK_CACHE_TTL_MILLIS,
+    val httpCacheEnabled: Boolean = false,
+    val httpCacheMaxBytes: Long = DEFAULT_HTTP_CACHE_MAX_BYTES,
+    val maxStalenessMillis: Long = 0,
+    val shareAcrossSessions: Boolean = false,
+) {
+    companion object {
+        const val DEFAULT_MAX_ENTRIES: Int = 100
+        const val DEFAULT_TTL_MILLIS: Long = 30L * 60 * 1000
+        const val DEFAULT_NEGATIVE_TTL_MILLIS: Long = 5L * 60 * 1000
+        const val DEFAULT_NEGATIVE_MAX_ENTRIES: Int = 50
+        const val DEFAULT_DISK_CACHE_MAX_BYTES: Long = 2L * 1024 * 1024
+        const val DEFAULT_DISK_CACHE_TTL_MILLIS: Long = 24L * 60 * 60 * 1000
+        const val DEFAULT_HTTP_CACHE_MAX_BYTES: Long = 5L * 1024 * 1024
+    }
+}
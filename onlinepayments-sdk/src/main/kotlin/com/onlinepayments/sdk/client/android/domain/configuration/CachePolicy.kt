@@ -0,0 +1,25 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.configuration
+
+/**
+ * Cache policy for the responses of a single [ApiEndpoint].
+ *
+ * @param ttlMillis Time-to-live of a cached response in milliseconds.
+ * @param maxEntries Maximum number of responses of this endpoint kept in memory.
+ * @param evictionWeight Relative cost of losing a cached response of this endpoint. When the cache as a whole is
+ *   full, responses of endpoints with a lower weight are evicted first.
+ */
+data class CachePolicy @JvmOverloads constructor(
+    val ttlMillis: Long,
+    val maxEntries: Int,
+    val evictionWeight: Int = 1,
+)
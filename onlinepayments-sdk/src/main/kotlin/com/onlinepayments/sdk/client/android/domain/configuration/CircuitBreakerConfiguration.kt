@@ -0,0 +1,42 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.configuration
+
+/**
+ * Configuration of the circuit breakers that protect the checkout from a Client API endpoint that keeps failing.
+ *
+ * Every endpoint has its own circuit. After [failureThreshold] consecutive failed calls the circuit opens, and
+ * calls to the endpoint fail immediately with a
+ * [com.onlinepayments.sdk.client.android.domain.exceptions.CircuitBreakerOpenException] instead of waiting for a
+ * timeout. After [openDurationMillis] the circuit is half-open: up to [halfOpenMaxCalls] trial calls are let
+ * through, and the circuit closes again when one of them succeeds, or opens again when one of them fails.
+ *
+ * Only network errors, calls that exceeded their time budget and server errors (HTTP status 5xx) count as
+ * failures; other error responses, like an unknown IIN, show that the endpoint works.
+ *
+ * @param enabled Whether calls go through the circuit breakers. Disabled by default, so no call fails without reaching
+ *   the Client API unless the circuit breakers are enabled.
+ * @param failureThreshold Number of consecutive failures after which the circuit of an endpoint opens.
+ * @param openDurationMillis Time in milliseconds that a circuit stays open before trial calls are let through.
+ * @param halfOpenMaxCalls Maximum number of trial calls at the same time while a circuit is half-open.
+ */
+data class CircuitBreakerConfiguration @JvmOverloads constructor(
+    val enabled: Boolean = false,
+    val failureThreshold: Int = DEFAULT_FAILURE_THRESHOLD,
+    val openDurationMillis: Long = DEFAULT_OPEN_DURATION_MILLIS,
+    val halfOpenMaxCalls: Int = DEFAULT_HALF_OPEN_MAX_CALLS,
+) {
+    companion object {
+        const val DEFAULT_FAILURE_THRESHOLD: Int = 5
+        const val DEFAULT_OPEN_DURATION_MILLIS: Long = 30_000
+        const val DEFAULT_HALF_OPEN_MAX_CALLS: Int = 1
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.configuration
+
+/**
+ * Configuration of the retries of Client API calls that fail because of a network error.
+ *
+ * Requests that only read data (payment products, product networks and the public key) are retried on any
+ * network error. Requests that post data (IIN details, currency conversion and surcharge calculation) are only
+ * retried when the connection could not be set up, so the server never received them. Error responses of the
+ * server are never retried.
+ *
+ * The delay before a retry grows exponentially from [initialBackoffMillis] up to [maxBackoffMillis]; a random
+ * part of up to half of that delay is subtracted, so clients that failed at the same moment do not retry at the
+ * same moment either.
+ *
+ * @param maxAttempts Maximum number of attempts of a single call, including the first one. `1` disables retries.
+ * @param initialBackoffMillis Delay before the first retry in milliseconds.
+ * @param maxBackoffMillis Upper bound of the delay between two attempts in milliseconds.
+ * @param backoffMultiplier Factor by which the delay grows after every retry.
+ * @param deadlineMillis Time in milliseconds after the first attempt was started after which no retry is started.
+ */
+data class RetryConfiguration @JvmOverloads constructor(
+    val maxAttempts: Int = DEFAULT_MAX_ATTEMPTS,
+    val initialBackoffMillis: Long = DEFAULT_INITIAL_BACKOFF_MILLIS,
+    val maxBackoffMillis: Long = DEFAULT_MAX_BACKOFF_MILLIS,
+    val backoffMultiplier: Double = DEFAULT_BACKOFF_MULTIPLIER,
+    val deadlineMillis: Long = DEFAULT_DEADLINE_MILLIS,
+) {
+    companion object {
+        const val DEFAULT_MAX_ATTEMPTS: Int = 3
+        const val DEFAULT_INITIAL_BACKOFF_MILLIS: Long = 250
+        const val DEFAULT_MAX_BACKOFF_MILLIS: Long = 2_000
+        const val DEFAULT_BACKOFF_MULTIPLIER: Double = 2.0
+        const val DEFAULT_DEADLINE_MILLIS: Long = 10_000
+    }
+}
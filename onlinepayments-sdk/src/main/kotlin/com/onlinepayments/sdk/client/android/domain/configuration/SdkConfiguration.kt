@@ -10,9 +10,41 @@
 
 package com.onlinepayments.sdk.client.android.domain.configuration
 
-data class SdkConfiguration(
+import com.onlinepayments.sdk.client.android.domain.iin.BinRangeIndex
+
+/**
+ * Optional configuration of the SDK.
+ *
+ * @param environmentIsProduction Whether the SDK talks to the production environment
+ * @param appIdentifier Identifier of the application, preferably including its version
+ * @param sdkIdentifier Identifier of the SDK sent in the client meta info
+ * @param loggingEnabled Whether requests and responses are logged
+ * @param cacheConfiguration Configuration of the caches used by the SDK
+ * @param warmUpConnection Whether the connection to the client API is set up in the background when the SDK is
+ *                         created, see [com.onlinepayments.sdk.client.android.facade.OnlinePaymentsSdk.warmUp]
+ * @param retryConfiguration Configuration of the retries of calls that failed because of a network error
+ * @param timeoutConfiguration Connect and read timeouts, and the time budget of calls per endpoint
+ * @param maxConcurrentProductRequests Maximum number of payment products that are fetched at the same time by
+ *                                     `OnlinePaymentsSdk.getPaymentProducts`
+ * @param circuitBreakerConfiguration Configuration of the circuit breakers that stop calling an endpoint that keeps
+ *                                    failing for a while; disabled unless enabled in this configuration
+ * @param binRangeIndex Offline BIN ranges that give a provisional payment product as soon as the first digits of a
+ *                      card number are typed, before the IIN details are returned
+ */
+data class SdkConfiguration @JvmOverloads constructor(
     val environmentIsProduction: Boolean?,
     val appIdentifier: String?,
     val sdkIdentifier: String?,
     val loggingEnabled: Boolean = false,
-)
+    val cacheConfiguration: CacheConfiguration = CacheConfiguration(),
+    val warmUpConnection: Boolean = false,
+    val retryConfiguration: RetryConfiguration = RetryConfiguration(),
+    val timeoutConfiguration: TimeoutConfiguration = TimeoutConfiguration(),
+    val maxConcurrentProductRequests: Int = DEFAULT_MAX_CONCURRENT_PRODUCT_REQUESTS,
+    val circuitBreakerConfiguration: CircuitBreakerConfiguration = CircuitBreakerConfiguration(),
+    val binRangeIndex: BinRangeIndex? = null,
+) {
+    companion object {
+        const val DEFAULT_MAX_CONCURRENT_PRODUCT_REQUESTS: Int = 4
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.configuration
+
+import java.util.EnumMap
+
+/**
+ * Configuration of the timeouts of Client API calls.
+ *
+ * Every call has a time budget, set per endpoint, that covers the whole call: setting up the connection, sending
+ * the request, reading the response and any retries. A call that does not complete within its budget fails with a
+ * [com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationException]. By default IIN lookups, which
+ * are made while the card number is typed, get a short budget, while payment product downloads get more time.
+ *
+ * @param connectTimeoutMillis Maximum time in milliseconds to set up a connection to the Client API.
+ * @param readTimeoutMillis Maximum time in milliseconds between two packets of a response.
+ * @param callTimeouts Time budget in milliseconds per endpoint, overriding [DEFAULT_CALL_TIMEOUTS_MILLIS].
+ *   `0` disables the budget of an endpoint.
+ */
+data class TimeoutConfiguration @JvmOverloads constructor(
+    val connectTimeoutMillis: Long = DEFAULT_CONNECT_TIMEOUT_MILLIS,
+    val readTimeoutMillis: Long = DEFAULT_READ_TIMEOUT_MILLIS,
+    val callTimeouts: Map<ApiEndpoint, Long> = emptyMap(),
+) {
+    /**
+     * Returns the time budget in milliseconds of a call to [endpoint], `0` for no budget.
+     */
+    fun callTimeoutMillis(endpoint: ApiEndpoint): Long {
+        return callTimeouts[endpoint] ?: DEFAULT_CALL_TIMEOUTS_MILLIS.getValue(endpoint)
+    }
+
+    companion object {
+        const val DEFAULT_CONNECT_TIMEOUT_MILLIS: Long = 10_000
+        const val DEFAULT_READ_TIMEOUT_MILLIS: Long = 15_000
+
+        /**
+         * Default time budgets per endpoint in milliseconds.
+         */
+        @JvmField
+        val DEFAULT_CALL_TIMEOUTS_MILLIS: Map<ApiEndpoint, Long> =
+            EnumMap<ApiEndpoint, Long>(ApiEndpoint::class.java).apply {
+                put(ApiEndpoint.PAYMENT_PRODUCTS, 30_000L)
+                put(ApiEndpoint.PAYMENT_PRODUCT, 30_000L)
+                put(ApiEndpoint.PAYMENT_PRODUCT_NETWORKS, 20_000L)
+                put(ApiEndpoint.IIN_DETAILS, 3_000L)
+                put(ApiEndpoint.CURRENCY_CONVERSION_QUOTE, 10_000L)
+                put(ApiEndpoint.SURCHARGE_CALCULATION, 10_000L)
+                put(ApiEndpoint.PUBLIC_KEY, 15_000L)
+            }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.exceptions
+
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+
+/**
+ * Thrown without calling the Client API when the circuit breaker of [endpoint] is open, because earlier calls to
+ * the endpoint kept failing.
+ *
+ * The checkout can skip optional information from this endpoint, like a surcharge, until the circuit closes again.
+ *
+ * @param endpoint The endpoint whose circuit is open
+ * @param retryAfterMillis Time in milliseconds after which the endpoint will be tried again
+ */
+class CircuitBreakerOpenException(
+    val endpoint: ApiEndpoint,
+    val retryAfterMillis: Long
+) : SdkException(
+    message = "Calls to $endpoint are suspended for $retryAfterMillis ms after repeated failures",
+    code = SdkExceptionType.CIRCUIT_BREAKER_OPEN,
+    metadata = mapOf("endpoint" to endpoint.name, "retryAfterMillis" to retryAfterMillis)
+) {
+    companion object {
+        @Suppress("Unused")
+        private const val serialVersionUID = 3318805419026748152L
+    }
+}
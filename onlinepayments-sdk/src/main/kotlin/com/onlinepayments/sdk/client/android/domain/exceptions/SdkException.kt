@@ -19,7 +19,8 @@ enum class SdkExceptionType {
     COMMUNICATION_EXCEPTION,
     CLIENT_ERROR,
     ENCRYPTION_EXCEPTION,
-    SDK_EXCEPTION
+    SDK_EXCEPTION,
+    CIRCUIT_BREAKER_OPEN
 }
 
 typealias SdkExceptionMetadata = Map<String, Any?>
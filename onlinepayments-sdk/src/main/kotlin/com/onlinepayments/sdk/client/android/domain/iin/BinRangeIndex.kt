@@ -0,0 +1,179 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.iin
+
+import com.onlinepayments.sdk.client.android.domain.exceptions.InvalidArgumentException
+import java.io.DataInputStream
+import java.io.IOException
+import java.io.InputStream
+
+/**
+ * Offline table of BIN ranges, used to show a provisional payment product while the IIN details of a card number
+ * are looked up, see [com.onlinepayments.sdk.client.android.domain.configuration.SdkConfiguration.binRangeIndex].
+ *
+ * Ranges are given as the first six digits of a card number, from [BIN_MIN] to [BIN_MAX], and may not overlap. They
+ * are kept in sorted `int` arrays, and a lookup is a binary search that allocates no objects. The answer of the
+ * Client API always takes precedence over this table.
+ *
+ * The SDK does not ship a table, since BIN ranges change and are licensed separately. An app builds one from the BIN
+ * ranges it has the rights to, for example with a build step that writes the format described at [read], and bundles
+ * it as an asset or downloads it:
+ *
+ * ```kotlin
+ * // Writing, e.g. in a build script; ranges sorted by their start
+ * DataOutputStream(FileOutputStream("bin-ranges.bin")).use { output ->
+ *     output.writeInt(0x42494E52)
+ *     output.writeInt(1)
+ *     output.writeInt(ranges.size)
+ *     ranges.forEach { output.writeInt(it.start); output.writeInt(it.end); output.writeInt(it.paymentProductId) }
+ * }
+ *
+ * // Reading, when the SDK is created
+ * val binRangeIndex = context.assets.open("bin-ranges.bin").use { BinRangeIndex.read(it) }
+ * val configuration = SdkConfiguration(
+ *     environmentIsProduction = true,
+ *     appIdentifier = "MyApp",
+ *     sdkIdentifier = null,
+ *     binRangeIndex = binRangeIndex
+ * )
+ * ```
+ */
+class BinRangeIndex internal constructor(
+    private val starts: IntArray,
+    private val ends: IntArray,
+    private val paymentProductIds: IntArray
+) {
+    init {
+        for (index in starts.indices) {
+            if (starts[index] !in BIN_MIN..ends[index] || ends[index] > BIN_MAX) {
+                throw InvalidArgumentException("Invalid BIN range ${starts[index]}-${ends[index]}")
+            }
+
+            if (index > 0 && starts[index] <= ends[index - 1]) {
+                throw InvalidArgumentException("BIN ranges are not sorted or overlap at ${starts[index]}")
+            }
+        }
+    }
+
+    /**
+     * The number of BIN ranges in the table.
+     */
+    val size: Int
+        get() = starts.size
+
+    /**
+     * Returns the payment product of every BIN range that starts with the digits of [partialCreditCardNumber], or
+     * [NO_PAYMENT_PRODUCT] when there is none or when the ranges belong to different payment products. Only the
+     * first six digits are used, and at least one is needed.
+     */
+    fun getPaymentProductId(partialCreditCardNumber: CharSequence): Int {
+        val digits = minOf(partialCreditCardNumber.length, BIN_LENGTH)
+        var low = 0
+
+        for (index in 0 until digits) {
+            val digit = partialCreditCardNumber[index] - '0'
+            if (digit !in 0..MAX_DIGIT) {
+                return NO_PAYMENT_PRODUCT
+            }
+
+            low = low * RADIX + digit
+        }
+
+        if (digits == 0) {
+            return NO_PAYMENT_PRODUCT
+        }
+
+        // The prefix covers all six-digit BINs from low to high
+        var scale = 1
+        repeat(BIN_LENGTH - digits) { scale *= RADIX }
+        low *= scale
+        val high = low + scale - 1
+
+        var index = firstRangeEndingAtOrAfter(low)
+        if (index == starts.size || starts[index] > high) {
+            return NO_PAYMENT_PRODUCT
+        }
+
+        val paymentProductId = paymentProductIds[index]
+        while (++index < starts.size && starts[index] <= high) {
+            if (paymentProductIds[index] != paymentProductId) {
+                return NO_PAYMENT_PRODUCT
+            }
+        }
+
+        return paymentProductId
+    }
+
+    private fun firstRangeEndingAtOrAfter(bin: Int): Int {
+        var low = 0
+        var high = ends.size
+
+        while (low < high) {
+            val middle = (low + high) ushr 1
+            if (ends[middle] < bin) low = middle + 1 else high = middle
+        }
+
+        return low
+    }
+
+    companion object {
+        /**
+         * Returned by [getPaymentProductId] when the table has no single payment product for a card number.
+         */
+        const val NO_PAYMENT_PRODUCT: Int = -1
+
+        const val BIN_MIN: Int = 0
+        const val BIN_MAX: Int = 999_999
+
+        private const val BIN_LENGTH = 6
+        private const val RADIX = 10
+        private const val MAX_DIGIT = 9
+        private const val MAGIC = 0x42494E52 // "BINR"
+        private const val VERSION = 1
+
+        /**
+         * Reads a table from its binary form: the magic number `0x42494E52` ("BINR"), the version `1` and the number
+         * of ranges, followed by the start, end and payment product id of every range, all as big-endian 32-bit
+         * integers. The ranges must be sorted by their start. The stream is not closed.
+         *
+         * @throws InvalidArgumentException if the data is not a valid table
+         */
+        @JvmStatic
+        fun read(input: InputStream): BinRangeIndex {
+            val data = DataInputStream(input)
+
+            return try {
+                if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+                    throw InvalidArgumentException("Not a BIN range table")
+                }
+
+                val count = data.readInt()
+                if (count !in 0..BIN_MAX + 1) {
+                    throw InvalidArgumentException("Invalid number of BIN ranges: $count")
+                }
+
+                val starts = IntArray(count)
+                val ends = IntArray(count)
+                val paymentProductIds = IntArray(count)
+
+                for (index in 0 until count) {
+                    starts[index] = data.readInt()
+                    ends[index] = data.readInt()
+                    paymentProductIds[index] = data.readInt()
+                }
+
+                BinRangeIndex(starts, ends, paymentProductIds)
+            } catch (e: IOException) {
+                throw InvalidArgumentException("Could not read the BIN range table", cause = e)
+            }
+        }
+    }
+}
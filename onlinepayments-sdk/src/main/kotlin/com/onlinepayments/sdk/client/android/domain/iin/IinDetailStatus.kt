@@ -16,6 +16,11 @@ enum class IinDetailStatus {
     UNSUPPORTED,
     UNKNOWN,
     NOT_ENOUGH_DIGITS,
-    EXISTING_BUT_NOT_ALLOWED
+    EXISTING_BUT_NOT_ALLOWED,
+
+    /**
+     * The payment product is taken from the offline [BinRangeIndex] and not yet confirmed by the Client API.
+     */
+    PROVISIONAL
 }
 
@@ -56,6 +56,27 @@ class PaymentProduct internal constructor(
         return fields.firstOrNull { it.id == id }
     }
 
+    /**
+     * Returns a copy without the accounts on file of the client session, so only the product definition remains.
+     */
+    internal fun withoutAccountsOnFile(): PaymentProduct {
+        return PaymentProduct(
+            id = id,
+            paymentMethod = paymentMethod,
+            paymentProductGroup = paymentProductGroup,
+            allowsRecurring = allowsRecurring,
+            allowsTokenization = allowsTokenization,
+            usesRedirectionTo3rdParty = usesRedirectionTo3rdParty,
+            paymentProduct302SpecificData = paymentProduct302SpecificData,
+            paymentProduct320SpecificData = paymentProduct320SpecificData,
+            logo = logo,
+            label = label,
+            displayOrder = displayOrder,
+            accountsOnFile = emptyList(),
+            fields = fields
+        )
+    }
+
     companion object {
         @Suppress("Unused")
         private const val serialVersionUID = 2619483756091827465L
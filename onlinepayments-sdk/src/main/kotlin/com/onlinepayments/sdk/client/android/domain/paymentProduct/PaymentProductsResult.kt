@@ -0,0 +1,42 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.paymentProduct
+
+import com.onlinepayments.sdk.client.android.domain.exceptions.SdkException
+import java.io.Serializable
+
+/**
+ * Result of fetching the details of several payment products at once.
+ *
+ * A product that could not be retrieved does not fail the whole request; its error is reported in [errors] instead.
+ *
+ * @param paymentProducts The products that were retrieved, in the order in which their ids were requested
+ * @param errors The error of every product id that could not be retrieved
+ */
+class PaymentProductsResult internal constructor(
+    val paymentProducts: List<PaymentProduct>,
+    val errors: Map<Int, SdkException>
+) : Serializable {
+    /**
+     * Whether every requested product was retrieved.
+     */
+    val isComplete: Boolean
+        get() = errors.isEmpty()
+
+    fun getPaymentProduct(id: Int): PaymentProduct? {
+        return paymentProducts.firstOrNull { it.id == id }
+    }
+
+    companion object {
+        @Suppress("Unused")
+        private const val serialVersionUID = 4180356927715046391L
+    }
+}
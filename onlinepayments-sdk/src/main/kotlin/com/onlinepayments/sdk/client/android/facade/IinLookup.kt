@@ -0,0 +1,42 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.facade
+
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.flow.MutableStateFlow
+
+/**
+ * A running IIN lookup for a card number field, started with [OnlinePaymentsSdk.startIinLookup].
+ *
+ * Pass every change of the card number to [update]. The lookups are debounced, a lookup for an outdated number is
+ * cancelled, and the listener only receives the result of the latest number. Call [cancel] when the card number
+ * field is no longer shown.
+ */
+class IinLookup internal constructor(
+    private val partialCreditCardNumbers: MutableStateFlow<String?>,
+    private val job: Job
+) {
+    /**
+     * Sets the card number as currently entered by the customer.
+     *
+     * @param partialCreditCardNumber The digits of the card number entered so far
+     */
+    fun update(partialCreditCardNumber: String) {
+        partialCreditCardNumbers.value = partialCreditCardNumber
+    }
+
+    /**
+     * Stops the lookup, including a request that is still in progress. The listener is not invoked anymore.
+     */
+    fun cancel() {
+        job.cancel()
+    }
+}
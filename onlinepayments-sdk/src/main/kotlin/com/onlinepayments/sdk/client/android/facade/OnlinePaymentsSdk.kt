@@ -15,9 +15,14 @@ import com.onlinepayments.sdk.client.android.domain.AmountOfMoney
 import com.onlinepayments.sdk.client.android.domain.PaymentContext
 import com.onlinepayments.sdk.client.android.domain.PaymentContextWithAmount
 import com.onlinepayments.sdk.client.android.domain.card.Card
+import com.onlinepayments.sdk.client.android.domain.card.CardResolution
+import com.onlinepayments.sdk.client.android.domain.card.CardResolutionOptions
+import com.onlinepayments.sdk.client.android.domain.cache.CacheMetricsSnapshot
 import com.onlinepayments.sdk.client.android.domain.card.CardSource
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
 import com.onlinepayments.sdk.client.android.domain.configuration.SdkConfiguration
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
+import com.onlinepayments.sdk.client.android.domain.configuration.TimeoutConfiguration
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionResponse
 import com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationException
 import com.onlinepayments.sdk.client.android.domain.exceptions.EncryptionException
@@ -26,6 +31,7 @@ import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProducts
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductsResult
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.CreditCardTokenRequest
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.EncryptedRequest
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.PaymentRequest
@@ -35,19 +41,24 @@ import com.onlinepayments.sdk.client.android.facade.helpers.ServiceCallWrapper
 import com.onlinepayments.sdk.client.android.facade.helpers.SessionDataNormalizer
 import com.onlinepayments.sdk.client.android.facade.helpers.SessionDataValidator
 import com.onlinepayments.sdk.client.android.facade.listeners.BasicPaymentProductsResponseListener
+import com.onlinepayments.sdk.client.android.facade.listeners.CacheMetricsListener
+import com.onlinepayments.sdk.client.android.facade.listeners.CardResolutionResponseListener
 import com.onlinepayments.sdk.client.android.facade.listeners.CurrencyConversionResponseListener
 import com.onlinepayments.sdk.client.android.facade.listeners.IinLookupResponseListener
 import com.onlinepayments.sdk.client.android.facade.listeners.PaymentProductNetworkResponseListener
 import com.onlinepayments.sdk.client.android.facade.listeners.PaymentProductResponseListener
+import com.onlinepayments.sdk.client.android.facade.listeners.PaymentProductsResponseListener
 import com.onlinepayments.sdk.client.android.facade.listeners.PaymentRequestPreparedListener
 import com.onlinepayments.sdk.client.android.facade.listeners.PublicKeyResponseListener
 import com.onlinepayments.sdk.client.android.facade.listeners.SurchargeCalculationResponseListener
+import com.onlinepayments.sdk.client.android.infrastructure.cache.MemoryPressureDispatcher
 import com.onlinepayments.sdk.client.android.infrastructure.factories.ServiceFactory
 import com.onlinepayments.sdk.client.android.infrastructure.factories.ServiceFactoryConfiguration
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IServiceFactory
 import com.onlinepayments.sdk.client.android.infrastructure.providers.LoggerProvider
 import com.onlinepayments.sdk.client.android.infrastructure.utils.ApiLogger
 import com.onlinepayments.sdk.client.android.infrastructure.utils.Logger
+import com.onlinepayments.sdk.client.android.services.interfaces.ICardResolutionService
 import com.onlinepayments.sdk.client.android.services.interfaces.IClientService
 import com.onlinepayments.sdk.client.android.services.interfaces.IEncryptionService
 import com.onlinepayments.sdk.client.android.services.interfaces.IPaymentProductService
@@ -55,6 +66,10 @@ import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.filterNotNull
+import kotlinx.coroutines.flow.map
 import kotlinx.coroutines.runBlocking
 
 /**
@@ -93,6 +108,12 @@ import kotlinx.coroutines.runBlocking
  * - **Sync functions**: Blocking calls that run on the current thread
  * - **Listener functions**: Callback-based for Java compatibility, callbacks run on main thread
  *
+ * ## Timeouts
+ *
+ * Every network call has a time budget per endpoint, see [TimeoutConfiguration], after which it fails with a
+ * [CommunicationException]. Suspend functions also honour the deadline of the caller: cancelling the calling
+ * coroutine, for example with `withTimeout`, cancels the HTTP request.
+ *
  * @see SessionData
  * @see SdkConfiguration
  * @see PaymentContext
@@ -106,8 +127,10 @@ class OnlinePaymentsSdk {
     private val encryptionService: IEncryptionService
     private val paymentProductService: IPaymentProductService
     private val clientService: IClientService
+    private val cardResolutionService: ICardResolutionService
     private val logger: Logger = LoggerProvider.logger
     private var serviceCallWrapper: ServiceCallWrapper
+    private var cacheMetricsForwarder: CacheMetricsListener? = null
 
     /**
      * Creates an instance of the Online Payments SDK.
@@ -153,6 +176,7 @@ class OnlinePaymentsSdk {
                 sessionData = normalizedSessionData,
                 configuration = configuration,
                 context = context,
+                sessionScope = sessionScope,
                 apiLogger = ApiLogger,
             )
         )
@@ -160,8 +184,16 @@ class OnlinePaymentsSdk {
         this.encryptionService = serviceFactory.encryptionService
         this.paymentProductService = serviceFactory.paymentProductService
         this.clientService = serviceFactory.clientService
+        this.cardResolutionService = serviceFactory.cardResolutionService
+
+        MemoryPressureDispatcher.register(context, serviceFactory.cacheManager)
+        MemoryPressureDispatcher.register(context, serviceFactory.productCacheManager)
 
         serviceCallWrapper = ServiceCallWrapper(sessionScope, mainDispatcher, logger)
+
+        if (configuration?.warmUpConnection == true) {
+            warmUp()
+        }
     }
 
     /**
@@ -289,6 +321,68 @@ class OnlinePaymentsSdk {
         }
     }
 
+    /**
+     * Retrieves detailed information for several payment products at once.
+     *
+     * The products are fetched concurrently, at most [SdkConfiguration.maxConcurrentProductRequests] at a time, and
+     * share the cache of [getPaymentProduct]: cached products are not fetched again, and a product that is already
+     * being fetched is awaited instead of requested twice. A product that cannot be retrieved does not fail the
+     * other ones; its error is reported per product id in the result.
+     *
+     * @param paymentProductIds The payment product identifiers; duplicates are fetched once
+     * @param paymentContext The payment context containing amount, currency, country code, and recurrence
+     * @return PaymentProductsResult containing the retrieved products and the error of every other product id
+     *
+     * @see PaymentProductsResult
+     * @see getPaymentProduct
+     * @see PaymentProductsResponseListener
+     */
+    suspend fun getPaymentProducts(
+        paymentProductIds: List<Int>,
+        paymentContext: PaymentContext,
+    ): PaymentProductsResult {
+        return serviceCallWrapper.wrap("getPaymentProducts") {
+            paymentProductService.getPaymentProducts(paymentProductIds, paymentContext)
+        }
+    }
+
+    /**
+     * Synchronous variant of [getPaymentProducts].
+     *
+     * **Warning**: This method blocks the current thread. Use the suspend variant for Kotlin
+     * coroutines or the listener variant for callbacks.
+     *
+     * @see getPaymentProducts
+     */
+    fun getPaymentProductsSync(
+        paymentProductIds: List<Int>,
+        paymentContext: PaymentContext,
+    ): PaymentProductsResult = runBlocking {
+        getPaymentProducts(paymentProductIds, paymentContext)
+    }
+
+    /**
+     * Callback-based variant of [getPaymentProducts].
+     *
+     * The listener callbacks are invoked on the main thread.
+     *
+     * @param listener Callback invoked when operation completes
+     *   - onSuccess: Called with PaymentProductsResult, also when some of the products could not be retrieved
+     *   - onFailure: Called with SdkException if the request as a whole fails
+     *
+     * @see getPaymentProducts
+     * @see PaymentProductsResponseListener
+     */
+    fun getPaymentProducts(
+        paymentProductIds: List<Int>,
+        paymentContext: PaymentContext,
+        listener: PaymentProductsResponseListener
+    ) {
+        serviceCallWrapper.wrap(listener, "getPaymentProducts") {
+            paymentProductService.getPaymentProducts(paymentProductIds, paymentContext)
+        }
+    }
+
     /**
      * Retrieves available payment product networks for a specific payment product.
      *
@@ -416,6 +510,145 @@ class OnlinePaymentsSdk {
         }
     }
 
+    /**
+     * Looks up the IIN details while the customer types a card number.
+     *
+     * Collect the returned flow while the card number field is shown, and emit every change of the card number
+     * into [partialCreditCardNumbers]. Numbers are debounced by [debounceMillis]; a number that only differs from
+     * the previous one beyond the digits used for the lookup does not start a new lookup. A lookup for an outdated
+     * number is cancelled, so only the result of the latest number is emitted.
+     *
+     * When [SdkConfiguration.binRangeIndex] is set, a provisional answer with status
+     * [com.onlinepayments.sdk.client.android.domain.iin.IinDetailStatus.PROVISIONAL] is emitted as soon as the
+     * typed digits match a single payment product, even before six digits are typed. The answer of the Client API
+     * follows and replaces it.
+     *
+     * The flow fails with the [com.onlinepayments.sdk.client.android.domain.exceptions.SdkException] of a lookup
+     * that failed; use `retry` or `catch` to continue, or use [startIinLookup], which reports failures without
+     * stopping.
+     *
+     * @param partialCreditCardNumbers The card number as entered so far, on every change
+     * @param paymentContext Payment context for additional validation
+     * @param debounceMillis Time in milliseconds the card number must be unchanged before it is looked up
+     * @return Flow of the IinDetailsResponse of the latest card number
+     *
+     * @see IinDetailsResponse
+     */
+    fun getIinDetails(
+        partialCreditCardNumbers: Flow<String>,
+        paymentContext: PaymentContextWithAmount,
+        debounceMillis: Long = DEFAULT_IIN_DEBOUNCE_MILLIS,
+    ): Flow<IinDetailsResponse> {
+        return clientService.getIinDetails(partialCreditCardNumbers, paymentContext, debounceMillis)
+            .map { it.getOrThrow() }
+    }
+
+    /**
+     * Callback-based variant of the flow variant of [getIinDetails], for a card number field.
+     *
+     * Pass every change of the card number to [IinLookup.update] of the returned lookup, and cancel it when the
+     * field is no longer shown. The listener callbacks are invoked on the main thread, only for the latest card
+     * number.
+     *
+     * @param listener Callback invoked for every completed lookup
+     *   - onSuccess: Called with the IinDetailsResponse of the latest card number, possibly first with a
+     *     provisional one, see [SdkConfiguration.binRangeIndex]
+     *   - onFailure: Called with SdkException if the lookup of the latest card number fails; later card numbers
+     *     are still looked up
+     * @param paymentContext Payment context for additional validation
+     * @param debounceMillis Time in milliseconds the card number must be unchanged before it is looked up
+     * @return The running lookup
+     *
+     * @see IinLookup
+     * @see IinLookupResponseListener
+     */
+    @JvmOverloads
+    fun startIinLookup(
+        listener: IinLookupResponseListener,
+        paymentContext: PaymentContextWithAmount,
+        debounceMillis: Long = DEFAULT_IIN_DEBOUNCE_MILLIS,
+    ): IinLookup {
+        val partialCreditCardNumbers = MutableStateFlow<String?>(null)
+        val results = clientService.getIinDetails(
+            partialCreditCardNumbers.filterNotNull(),
+            paymentContext,
+            debounceMillis
+        )
+        val job = serviceCallWrapper.collect(results, listener, "startIinLookup")
+
+        return IinLookup(partialCreditCardNumbers, job)
+    }
+
+    /**
+     * Resolves everything the card form needs from the first digits of a card number.
+     *
+     * The IIN details are looked up first. When they name a payment product that is supported in [paymentContext],
+     * the payment product details and, if requested in [options], the surcharge and the currency conversion quote
+     * are retrieved at the same time, so the result is ready about one round trip after the IIN lookup. Parts that
+     * could not be retrieved are reported in [CardResolution.errors].
+     *
+     * @param partialCreditCardNumber The first 6+ digits of the card number (minimum 6 digits required)
+     * @param paymentContext Payment context, also used for the payment product, surcharge and currency conversion
+     * @param options What to retrieve next to the payment product details
+     * @return CardResolution containing the IIN details and the parts that were retrieved
+     *
+     * @throws ResponseException if the IIN lookup returns an error
+     * @throws CommunicationException if network communication of the IIN lookup fails
+     *
+     * @see CardResolution
+     * @see CardResolutionOptions
+     * @see CardResolutionResponseListener
+     */
+    suspend fun resolveCard(
+        partialCreditCardNumber: String,
+        paymentContext: PaymentContextWithAmount,
+        options: CardResolutionOptions = CardResolutionOptions(),
+    ): CardResolution {
+        return serviceCallWrapper.wrap("resolveCard") {
+            cardResolutionService.resolveCard(partialCreditCardNumber, paymentContext, options)
+        }
+    }
+
+    /**
+     * Synchronous variant of [resolveCard].
+     *
+     * **Warning**: This method blocks the current thread. Use the suspend variant for Kotlin
+     * coroutines or the listener variant for callbacks.
+     *
+     * @see resolveCard
+     */
+    @JvmOverloads
+    fun resolveCardSync(
+        partialCreditCardNumber: String,
+        paymentContext: PaymentContextWithAmount,
+        options: CardResolutionOptions = CardResolutionOptions(),
+    ): CardResolution = runBlocking {
+        resolveCard(partialCreditCardNumber, paymentContext, options)
+    }
+
+    /**
+     * Callback-based variant of [resolveCard].
+     *
+     * The listener callbacks are invoked on the main thread.
+     *
+     * @param listener Callback invoked when operation completes
+     *   - onSuccess: Called with CardResolution, also when some of its parts could not be retrieved
+     *   - onFailure: Called with SdkException if the IIN lookup fails
+     *
+     * @see resolveCard
+     * @see CardResolutionResponseListener
+     */
+    fun resolveCard(
+        partialCreditCardNumber: String,
+        paymentContext: PaymentContextWithAmount,
+        options: CardResolutionOptions,
+        listener: CardResolutionResponseListener
+    ) {
+        serviceCallWrapper.wrap(listener, "resolveCard") {
+            cardResolutionService.resolveCard(partialCreditCardNumber, paymentContext, options)
+        }
+    }
+
     /**
      * Retrieves a currency conversion quote for Dynamic Currency Conversion (DCC).
      *
@@ -884,10 +1117,71 @@ class OnlinePaymentsSdk {
         }
     }
 
+    /**
+     * Sets up the connection to the client API in the background, so the first request does not have to wait for
+     * DNS resolution, the TCP connection and the TLS handshake.
+     *
+     * The connection is opened through the HTTP transport shared by all SDK instances and is reused by the requests
+     * of this and later sessions on the same host. Call this as early as possible, for example when the checkout
+     * screen is opened, or enable [SdkConfiguration.warmUpConnection] to do so when the SDK is created. Returns
+     * immediately; failures are ignored and do not affect later requests.
+     */
+    fun warmUp() {
+        serviceFactory.warmUp()
+    }
+
+    /**
+     * Returns the cache statistics of this SDK instance: hits, misses, expirations, evictions,
+     * waits on in-flight requests and load times, per endpoint.
+     *
+     * @see CacheMetricsSnapshot
+     */
+    fun getCacheMetrics(): CacheMetricsSnapshot {
+        val sessionMetrics = serviceFactory.cacheManager.metricsSnapshot()
+        val productCacheManager = serviceFactory.productCacheManager
+
+        if (productCacheManager === serviceFactory.cacheManager) {
+            return sessionMetrics
+        }
+
+        val productMetrics = productCacheManager.metricsSnapshot().endpoints
+            .filterKeys { it in ApiEndpoint.SHAREABLE_ENDPOINTS }
+
+        return CacheMetricsSnapshot(sessionMetrics.endpoints + productMetrics)
+    }
+
+    /**
+     * Registers a listener that receives the cache statistics of this SDK instance, as returned by
+     * [getCacheMetrics], after every network call made to fill the cache. Pass `null` to remove the listener.
+     * When payment product networks are shared between sessions, see
+     * [com.onlinepayments.sdk.client.android.domain.configuration.CacheConfiguration.shareAcrossSessions],
+     * network calls made for other sessions also notify the listener.
+     *
+     * @param listener The listener, invoked on the thread that made the network call
+     *
+     * @see CacheMetricsListener
+     */
+    @Synchronized
+    fun setCacheMetricsListener(listener: CacheMetricsListener?) {
+        val cacheManagers = setOf(serviceFactory.cacheManager, serviceFactory.productCacheManager)
+
+        cacheMetricsForwarder?.let { forwarder -> cacheManagers.forEach { it.removeMetricsListener(forwarder) } }
+
+        // Held by this instance, since the caches only hold their listeners weakly
+        val forwarder = listener?.let { CacheMetricsListener { listener.onCacheMetrics(getCacheMetrics()) } }
+        forwarder?.let { cacheManagers.forEach { it.addMetricsListener(forwarder) } }
+        cacheMetricsForwarder = forwarder
+    }
+
     companion object {
         @Suppress("Unused")
         private const val serialVersionUID = -2677783756091827465L
 
         var mainDispatcher: CoroutineDispatcher = Dispatchers.Main
+
+        /**
+         * Default time in milliseconds a card number must be unchanged before its IIN details are looked up.
+         */
+        const val DEFAULT_IIN_DEBOUNCE_MILLIS: Long = 300
     }
 }
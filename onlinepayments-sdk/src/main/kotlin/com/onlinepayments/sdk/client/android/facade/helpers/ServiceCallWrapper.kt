@@ -21,6 +21,8 @@ import com.onlinepayments.sdk.client.android.domain.exceptions.ApiErrorItem
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.withContext
 
@@ -76,6 +78,45 @@ internal class ServiceCallWrapper(
         }
     }
 
+    /**
+     * Collects [results] in the session scope and passes every result to [listener], on the main thread. A failure
+     * does not end the collection.
+     *
+     * @return The job of the collection, which can be cancelled to stop it
+     */
+    fun <T> collect(
+        results: Flow<Result<T>>,
+        listener: GenericResponseListener<T>,
+        logTag: String = ""
+    ): Job {
+        return sessionScope.launch {
+            results.collect { result ->
+                val exception = result.exceptionOrNull()
+                if (exception is ResponseException) {
+                    logSdkError(
+                        "$logTag[ListenerBased]",
+                        exception.httpStatusCode,
+                        exception.apiError,
+                        exception.message
+                    )
+                } else if (exception != null) {
+                    logException(logTag, exception)
+                }
+
+                withContext(mainDispatcher) {
+                    result.fold(
+                        onSuccess = { listener.onSuccess(it) },
+                        onFailure = {
+                            val sdkException = it as? SdkException
+                                ?: SdkException(message = it.message ?: "Unknown error", cause = it)
+                            listener.onFailure(sdkException)
+                        }
+                    )
+                }
+            }
+        }
+    }
+
     private fun logSdkError(logTag: String, httpStatusCode: Int?, apiError: ApiError?, message: String?) {
         if (ApiLogger.getLoggingEnabled()) {
             val apiErrorId = apiError?.errorId ?: ""
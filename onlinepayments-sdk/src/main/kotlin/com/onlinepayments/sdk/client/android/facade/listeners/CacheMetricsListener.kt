@@ -0,0 +1,27 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.facade.listeners
+
+import com.onlinepayments.sdk.client.android.domain.cache.CacheMetricsSnapshot
+
+/**
+ * Callback Interface that receives the cache statistics of the SDK, e.g. to forward them to telemetry.
+ */
+fun interface CacheMetricsListener {
+
+    /**
+     * Invoked after every network call made to fill the cache, on the thread that made the call.
+     * Implementations should return quickly and must not call back into the SDK.
+     *
+     * @param snapshot The statistics at the time the call completed
+     */
+    fun onCacheMetrics(snapshot: CacheMetricsSnapshot)
+}
@@ -8,11 +8,11 @@
  * Please contact Worldline for questions regarding license and user rights.
  */
 
-package com.onlinepayments.sdk.client.android.infrastructure.apiModels.validators.ruleDefinitions
+package com.onlinepayments.sdk.client.android.facade.listeners
+
+import com.onlinepayments.sdk.client.android.domain.card.CardResolution
 
 /**
- * Validator marker for IBAN validation.
- * Used for validation. This validator requires no configuration.
+ * Callback Interface that is invoked when a card resolution completes.
  */
-internal object IBANDto
-
+interface CardResolutionResponseListener : GenericResponseListener<CardResolution>
@@ -0,0 +1,18 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.facade.listeners
+
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductsResult
+
+/**
+ * Callback Interface that is invoked when a request for the details of several Payment Products completes.
+ */
+interface PaymentProductsResponseListener : GenericResponseListener<PaymentProductsResult>
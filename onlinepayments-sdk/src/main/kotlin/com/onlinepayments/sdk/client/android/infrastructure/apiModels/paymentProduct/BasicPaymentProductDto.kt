@@ -19,7 +19,7 @@ import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentPro
 /**
  * DTO for BasicPaymentProduct from JSON.
  */
-internal open class BasicPaymentProductDto {
+internal class BasicPaymentProductDto {
     @SerializedName("id")
     var id: Int? = null
 
@@ -49,4 +49,20 @@ internal open class BasicPaymentProductDto {
 
     @SerializedName("paymentProduct320SpecificData")
     var paymentProduct320SpecificData: PaymentProduct320SpecificData? = null
+
+    fun withoutAccountsOnFile(): BasicPaymentProductDto {
+        val source = this
+
+        return BasicPaymentProductDto().apply {
+            id = source.id
+            paymentMethod = source.paymentMethod
+            paymentProductGroup = source.paymentProductGroup
+            allowsRecurring = source.allowsRecurring
+            allowsTokenization = source.allowsTokenization
+            usesRedirectionTo3rdParty = source.usesRedirectionTo3rdParty
+            displayHints = source.displayHints
+            paymentProduct302SpecificData = source.paymentProduct302SpecificData
+            paymentProduct320SpecificData = source.paymentProduct320SpecificData
+        }
+    }
 }
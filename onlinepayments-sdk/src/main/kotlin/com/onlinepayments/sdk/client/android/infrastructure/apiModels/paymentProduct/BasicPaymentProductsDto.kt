@@ -15,4 +15,11 @@ import com.google.gson.annotations.SerializedName
 internal data class BasicPaymentProductsDto(
     @SerializedName("paymentProducts")
     val paymentProducts: MutableList<BasicPaymentProductDto>?
-)
+) {
+    /**
+     * Returns a copy without the accounts on file of the client session, so only product definitions remain.
+     */
+    fun withoutAccountsOnFile(): BasicPaymentProductsDto {
+        return BasicPaymentProductsDto(paymentProducts?.mapTo(mutableListOf()) { it.withoutAccountsOnFile() })
+    }
+}
@@ -1,18 +0,0 @@
-/*
- * Do not remove or alter the notices in this preamble.
- *
- * Copyright © 2026 Worldline and/or its affiliates.
- *
- * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
- *
- * Please contact Worldline for questions regarding license and user rights.
- */
-
-package com.onlinepayments.sdk.client.android.infrastructure.apiModels.validators.ruleDefinitions
-
-/**
- * Validator marker for expiration date validation.
- * Used for validation. This validator requires no configuration.
- */
-internal object ExpirationDateDto
-
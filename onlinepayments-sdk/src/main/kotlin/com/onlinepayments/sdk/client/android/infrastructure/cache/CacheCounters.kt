@@ -0,0 +1,63 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.onlinepayments.sdk.client.android.domain.cache.CacheMetrics
+import com.onlinepayments.sdk.client.android.domain.cache.LoadTimeHistogram
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * Lock-free counters backing [CacheMetrics].
+ */
+internal class CacheCounters {
+    val hits = AtomicLong()
+    val misses = AtomicLong()
+    val negativeHits = AtomicLong()
+    val expirations = AtomicLong()
+    val evictions = AtomicLong()
+    val inFlightWaits = AtomicLong()
+    val retries = AtomicLong()
+
+    private val loadTimeCounts = AtomicLongArray(LOAD_TIME_BUCKETS_MILLIS.size + 1)
+    private val loadTimeTotalMillis = AtomicLong()
+
+    fun recordLoad(durationMillis: Long) {
+        var bucket = 0
+        while (bucket < LOAD_TIME_BUCKETS_MILLIS.size && durationMillis > LOAD_TIME_BUCKETS_MILLIS[bucket]) {
+            bucket++
+        }
+
+        loadTimeCounts.incrementAndGet(bucket)
+        loadTimeTotalMillis.addAndGet(durationMillis)
+    }
+
+    fun toMetrics(): CacheMetrics {
+        return CacheMetrics(
+            hits = hits.get(),
+            misses = misses.get(),
+            negativeHits = negativeHits.get(),
+            expirations = expirations.get(),
+            evictions = evictions.get(),
+            inFlightWaits = inFlightWaits.get(),
+            retries = retries.get(),
+            loadTimes = LoadTimeHistogram(
+                bucketUpperBoundsMillis = LOAD_TIME_BUCKETS_MILLIS.toList(),
+                counts = List(loadTimeCounts.length()) { loadTimeCounts.get(it) },
+                totalMillis = loadTimeTotalMillis.get()
+            )
+        )
+    }
+
+    private companion object {
+        val LOAD_TIME_BUCKETS_MILLIS = longArrayOf(50, 100, 250, 500, 1_000, 2_500, 5_000)
+    }
+}
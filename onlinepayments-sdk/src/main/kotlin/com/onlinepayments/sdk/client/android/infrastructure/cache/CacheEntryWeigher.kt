@@ -0,0 +1,47 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProducts
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
+
+/**
+ * Estimates the memory retained by a cached response, in bytes.
+ *
+ * The estimates only need to be right in proportion to each other: a payment product with its fields,
+ * validation rules and compiled patterns weighs far more than an IIN or surcharge response.
+ */
+internal object CacheEntryWeigher {
+    private const val DEFAULT_BYTES = 512
+    private const val PAYMENT_PRODUCT_BYTES = 2_048
+    private const val PAYMENT_PRODUCT_FIELD_BYTES = 1_536
+    private const val BASIC_PAYMENT_PRODUCT_BYTES = 768
+    private const val ACCOUNT_ON_FILE_BYTES = 384
+    private const val NETWORK_BYTES = 48
+
+    fun weigh(value: Any): Int {
+        return when (value) {
+            is PaymentProduct ->
+                PAYMENT_PRODUCT_BYTES + value.fields.size * PAYMENT_PRODUCT_FIELD_BYTES
+
+            is BasicPaymentProducts ->
+                DEFAULT_BYTES +
+                    value.paymentProducts.size * BASIC_PAYMENT_PRODUCT_BYTES +
+                    value.accountsOnFile.size * ACCOUNT_ON_FILE_BYTES
+
+            is PaymentProductNetworksResponse ->
+                DEFAULT_BYTES + (value.networks?.size ?: 0) * NETWORK_BYTES
+
+            else -> DEFAULT_BYTES
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+
+/**
+ * Immutable key of a cached API response.
+ *
+ * Keys are compared field by field with a precomputed hash code, so looking up a response does not
+ * require building a string. [toString] renders the key as text for the persistent cache tier.
+ *
+ * @param endpoint The endpoint the response belongs to.
+ * @param context The payment context the response was requested for, if any.
+ * @param suffix Any other value the response depends on, like a product ID or (partial) card number.
+ */
+internal class CacheKey(
+    val endpoint: ApiEndpoint,
+    val context: PaymentContextKey? = null,
+    val suffix: String? = null,
+) {
+    private val hash: Int = run {
+        var result = endpoint.ordinal
+        result = 31 * result + (context?.hashCode() ?: 0)
+        31 * result + (suffix?.hashCode() ?: 0)
+    }
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        if (other !is CacheKey) return false
+
+        return hash == other.hash &&
+            endpoint == other.endpoint &&
+            context == other.context &&
+            suffix == other.suffix
+    }
+
+    override fun hashCode(): Int = hash
+
+    override fun toString(): String = buildString {
+        append(endpoint.cacheKeyPrefix)
+        append('-')
+
+        listOfNotNull(context, suffix).joinTo(this, separator = "_")
+    }
+}
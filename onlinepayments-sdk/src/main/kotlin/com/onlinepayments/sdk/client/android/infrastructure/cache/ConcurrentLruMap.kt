@@ -0,0 +1,179 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+/**
+ * Thread-safe map with least-recently-used eviction.
+ *
+ * Keys are spread over a number of independently locked stripes, each backed by an access-ordered
+ * [LinkedHashMap]. Lookups, inserts and evictions are O(1) and only contend with operations that hash
+ * to the same stripe. Recency is tracked per stripe, so with more than one stripe the evicted entry is
+ * the least recently used entry of its stripe rather than of the whole map.
+ *
+ * @param maxSize Maximum number of entries kept across all stripes.
+ * @param stripeCount Number of stripes; rounded down to a power of two.
+ * @param weigher Estimates the weight of a value, summed up in [weight].
+ * @param onEvict Invoked, outside of any lock, for every entry removed to make room for a new one.
+ */
+internal class ConcurrentLruMap<K : Any, V : Any>(
+    maxSize: Int,
+    stripeCount: Int = defaultStripeCount(maxSize),
+    private val weigher: ((V) -> Int)? = null,
+    private val onEvict: ((K, V) -> Unit)? = null
+) {
+    private val stripes: List<Stripe<K, V>>
+    private val stripeMask: Int
+
+    init {
+        require(maxSize > 0) { "maxSize must be positive, was $maxSize" }
+
+        val normalizedCount = Integer.highestOneBit(stripeCount.coerceIn(1, maxSize))
+        val capacityPerStripe = (maxSize + normalizedCount - 1) / normalizedCount
+
+        stripes = List(normalizedCount) { Stripe<K, V>(capacityPerStripe) }
+        stripeMask = normalizedCount - 1
+    }
+
+    val size: Int
+        get() = stripes.sumOf { stripe -> synchronized(stripe) { stripe.map.size } }
+
+    /**
+     * Total weight of the values, as estimated by the weigher; equal to [size] without one.
+     */
+    val weight: Long
+        get() = stripes.sumOf { stripe -> synchronized(stripe) { stripe.weight } }
+
+    /**
+     * Returns the value for [key] and marks it as most recently used.
+     */
+    operator fun get(key: K): V? {
+        val stripe = stripeFor(key)
+
+        return synchronized(stripe) { stripe.map[key] }
+    }
+
+    /**
+     * Stores [value] under [key] as the most recently used entry, evicting the least recently used
+     * entries of the stripe when it is over capacity.
+     */
+    fun put(key: K, value: V) {
+        val stripe = stripeFor(key)
+        var evicted: MutableList<Map.Entry<K, V>>? = null
+
+        synchronized(stripe) {
+            stripe.map.put(key, value)?.let { previous -> stripe.weight -= weigh(previous) }
+            stripe.weight += weigh(value)
+
+            while (stripe.map.size > stripe.capacity) {
+                val iterator = stripe.map.entries.iterator()
+                val eldest = iterator.next()
+                iterator.remove()
+                stripe.weight -= weigh(eldest.value)
+
+                if (onEvict != null) {
+                    val list = evicted ?: mutableListOf()
+                    list.add(eldest)
+                    evicted = list
+                }
+            }
+        }
+
+        evicted?.forEach { onEvict?.invoke(it.key, it.value) }
+    }
+
+    fun remove(key: K): V? {
+        val stripe = stripeFor(key)
+
+        return synchronized(stripe) {
+            stripe.map.remove(key)?.also { stripe.weight -= weigh(it) }
+        }
+    }
+
+    /**
+     * Removes [key] only if it is still mapped to [value].
+     */
+    fun remove(key: K, value: V): Boolean {
+        val stripe = stripeFor(key)
+
+        return synchronized(stripe) {
+            if (stripe.map[key] === value) {
+                stripe.map.remove(key)
+                stripe.weight -= weigh(value)
+                true
+            } else {
+                false
+            }
+        }
+    }
+
+    /**
+     * Evicts the least recently used entry of the first non-empty stripe.
+     *
+     * @return false when the map is empty
+     */
+    fun removeEldest(): Boolean {
+        for (stripe in stripes) {
+            val eldest = synchronized(stripe) {
+                val iterator = stripe.map.entries.iterator()
+
+                if (iterator.hasNext()) {
+                    iterator.next().also {
+                        iterator.remove()
+                        stripe.weight -= weigh(it.value)
+                    }
+                } else {
+                    null
+                }
+            } ?: continue
+
+            onEvict?.invoke(eldest.key, eldest.value)
+
+            return true
+        }
+
+        return false
+    }
+
+    fun clear() {
+        stripes.forEach { stripe ->
+            synchronized(stripe) {
+                stripe.map.clear()
+                stripe.weight = 0
+            }
+        }
+    }
+
+    private fun weigh(value: V): Long = weigher?.invoke(value)?.toLong() ?: 1L
+
+    private fun stripeFor(key: K): Stripe<K, V> {
+        val hash = key.hashCode()
+
+        return stripes[(hash xor (hash ushr 16)) and stripeMask]
+    }
+
+    private class Stripe<K, V>(val capacity: Int) {
+        val map = LinkedHashMap<K, V>(16, 0.75f, true)
+        var weight = 0L
+    }
+
+    companion object {
+        private const val MIN_ENTRIES_PER_STRIPE = 64
+        private const val MAX_STRIPES = 8
+
+        /**
+         * Small caches use a single stripe so eviction is exact LRU; large caches are striped to
+         * reduce lock contention.
+         */
+        fun defaultStripeCount(maxSize: Int): Int {
+            return (maxSize / MIN_ENTRIES_PER_STRIPE).coerceIn(1, MAX_STRIPES)
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.google.gson.Gson
+import com.onlinepayments.sdk.client.android.domain.Constants
+import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPersistentCache
+import com.onlinepayments.sdk.client.android.infrastructure.json.ApiJson
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileInputStream
+import java.io.FileOutputStream
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+
+/**
+ * File based [IPersistentCache] storing one JSON serialized entry per file.
+ *
+ * Every entry carries a header with the entry format version, the SDK version that wrote it, its creation
+ * time and its full key. Entries written by another format or SDK version, entries older than [ttlMillis]
+ * and unreadable entries are discarded on read. When the directory grows beyond [maxBytes], the least
+ * recently used entries are deleted.
+ *
+ * @param directory Directory the entries are stored in; shared by all namespaces.
+ * @param namespace Scopes the keys, so entries of different customers or environments never collide.
+ * @param maxBytes Maximum total size of all entries in [directory].
+ * @param ttlMillis Time-to-live of an entry in milliseconds.
+ */
+internal class DiskCache(
+    private val directory: File,
+    namespace: String,
+    private val maxBytes: Long,
+    private val ttlMillis: Long,
+    private val gson: Gson = ApiJson.gson
+) : IPersistentCache {
+
+    private val namespacePrefix = "$namespace\n"
+
+    @Synchronized
+    override fun <T : Any> read(key: String, type: Class<T>): T? {
+        val namespacedKey = namespacePrefix + key
+        val file = fileFor(namespacedKey)
+
+        if (!file.exists()) {
+            return null
+        }
+
+        return try {
+            val value = DataInputStream(BufferedInputStream(FileInputStream(file))).use { input ->
+                val isValid = input.readInt() == FORMAT_VERSION &&
+                    input.readUTF() == Constants.SDK_VERSION &&
+                    !isExpired(input.readLong()) &&
+                    input.readUTF() == namespacedKey
+
+                if (isValid) {
+                    val payload = ByteArray(input.readInt())
+                    input.readFully(payload)
+
+                    gson.fromJson(String(payload, StandardCharsets.UTF_8), type)
+                } else {
+                    null
+                }
+            }
+
+            if (value == null) {
+                file.delete()
+            } else {
+                // Keeps recently read entries from being evicted first
+                file.setLastModified(System.currentTimeMillis())
+            }
+
+            value
+        } catch (_: Exception) {
+            // Corrupt or truncated entries are treated as a cache miss
+            file.delete()
+            null
+        }
+    }
+
+    @Synchronized
+    override fun write(key: String, value: Any) {
+        val namespacedKey = namespacePrefix + key
+        val file = fileFor(namespacedKey)
+        var tempFile: File? = null
+
+        try {
+            directory.mkdirs()
+
+            // Unique per write, since other instances and processes may write the same entry concurrently
+            tempFile = File.createTempFile(file.name, TEMP_FILE_SUFFIX, directory)
+
+            val payload = gson.toJson(value).toByteArray(StandardCharsets.UTF_8)
+
+            DataOutputStream(BufferedOutputStream(FileOutputStream(tempFile))).use { output ->
+                output.writeInt(FORMAT_VERSION)
+                output.writeUTF(Constants.SDK_VERSION)
+                output.writeLong(System.currentTimeMillis())
+                output.writeUTF(namespacedKey)
+                output.writeInt(payload.size)
+                output.write(payload)
+            }
+
+            if (!tempFile.renameTo(file)) {
+                tempFile.delete()
+                return
+            }
+
+            trimToSize()
+        } catch (_: Exception) {
+            // Failing to persist an entry only costs a future network call
+            tempFile?.delete()
+        }
+    }
+
+    /**
+     * Removes all entries in [directory], including those of other namespaces.
+     */
+    @Synchronized
+    override fun clear() {
+        entryFiles().forEach { it.delete() }
+    }
+
+    private fun isExpired(createdAt: Long): Boolean {
+        return System.currentTimeMillis() - createdAt > ttlMillis
+    }
+
+    private fun trimToSize() {
+        val files = entryFiles()
+        var totalBytes = files.sumOf { it.length() }
+
+        if (totalBytes <= maxBytes) {
+            return
+        }
+
+        for (file in files.sortedBy { it.lastModified() }) {
+            val length = file.length()
+
+            if (file.delete()) {
+                totalBytes -= length
+            }
+
+            if (totalBytes <= maxBytes) {
+                break
+            }
+        }
+    }
+
+    private fun entryFiles(): List<File> {
+        return directory.listFiles { file -> file.isFile && file.name.endsWith(ENTRY_FILE_SUFFIX) }
+            ?.toList()
+            ?: emptyList()
+    }
+
+    private fun fileFor(namespacedKey: String): File {
+        val digest = MessageDigest.getInstance("SHA-256")
+            .digest(namespacedKey.toByteArray(StandardCharsets.UTF_8))
+
+        return File(directory, digest.joinToString("") { "%02x".format(it) } + ENTRY_FILE_SUFFIX)
+    }
+
+    companion object {
+        const val DIRECTORY_NAME = "onlinepayments-sdk-cache"
+
+        // Bump when the entry layout or the persisted models change incompatibly
+        private const val FORMAT_VERSION = 1
+        private const val ENTRY_FILE_SUFFIX = ".entry"
+        private const val TEMP_FILE_SUFFIX = ".tmp"
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+/**
+ * Trie of the card number prefixes with an IIN lookup answer that also holds for longer prefixes.
+ *
+ * Every prefix is stored at the depth of its number of digits, so the depth of a node is how specific the answer
+ * for its prefix is. [longestPrefixOf] returns the most specific stored prefix of a card number. The answers
+ * themselves stay in the cache manager, which decides how long they are valid; a prefix whose answer is gone is
+ * removed with [remove].
+ *
+ * @param maxPrefixes Number of stored prefixes after which the trie is emptied, to bound its memory use.
+ */
+internal class IinPrefixTrie(private val maxPrefixes: Int = DEFAULT_MAX_PREFIXES) {
+    private val root = Node()
+    private var size = 0
+
+    /**
+     * Returns the longest stored prefix of [partialCreditCardNumber], which may be the number itself, or null.
+     */
+    fun longestPrefixOf(partialCreditCardNumber: String): String? = synchronized(root) {
+        var node = root
+        var length = 0
+
+        for ((index, char) in partialCreditCardNumber.withIndex()) {
+            node = node.children.getOrNull(char - '0') ?: break
+            if (node.resolved) {
+                length = index + 1
+            }
+        }
+
+        if (length > 0) partialCreditCardNumber.substring(0, length) else null
+    }
+
+    fun add(prefix: String) = synchronized(root) {
+        if (prefix.any { it !in '0'..'9' }) {
+            return@synchronized
+        }
+
+        if (size >= maxPrefixes) {
+            root.children.fill(null)
+            size = 0
+        }
+
+        var node = root
+        for (char in prefix) {
+            val index = char - '0'
+            node = node.children[index] ?: Node().also { node.children[index] = it }
+        }
+
+        if (!node.resolved) {
+            node.resolved = true
+            size++
+        }
+    }
+
+    /**
+     * Removes [prefix], together with the nodes that no longer lead to a stored prefix.
+     */
+    fun remove(prefix: String) = synchronized(root) {
+        val path = ArrayList<Node>(prefix.length + 1)
+        path.add(root)
+
+        for (char in prefix) {
+            path.add(path.last().children.getOrNull(char - '0') ?: return@synchronized)
+        }
+
+        val node = path.last()
+        if (!node.resolved) {
+            return@synchronized
+        }
+
+        node.resolved = false
+        size--
+
+        for (depth in prefix.length downTo 1) {
+            val child = path[depth]
+            if (child.resolved || child.children.any { it != null }) {
+                break
+            }
+
+            path[depth - 1].children[prefix[depth - 1] - '0'] = null
+        }
+    }
+
+    /**
+     * Returns whether the trie holds no nodes besides its root.
+     */
+    fun isEmpty(): Boolean = synchronized(root) {
+        root.children.all { it == null }
+    }
+
+    fun clear() = synchronized(root) {
+        root.children.fill(null)
+        size = 0
+    }
+
+    private class Node {
+        val children = arrayOfNulls<Node>(DIGITS)
+        var resolved = false
+    }
+
+    private companion object {
+        const val DIGITS = 10
+        const val DEFAULT_MAX_PREFIXES = 1024
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import android.content.ComponentCallbacks2
+import android.content.Context
+import android.content.res.Configuration
+import com.onlinepayments.sdk.client.android.infrastructure.interfaces.ICacheManager
+import java.lang.ref.WeakReference
+
+/**
+ * Forwards the memory trim callbacks of the application to the caches of all live SDK instances.
+ *
+ * A single [ComponentCallbacks2] is registered on the application context for the whole process. Caches are
+ * held by weak reference, so an SDK instance that is no longer used can be garbage collected without having
+ * to unregister.
+ */
+internal object MemoryPressureDispatcher : ComponentCallbacks2 {
+    private val caches = mutableListOf<WeakReference<ICacheManager>>()
+    private var registered = false
+
+    fun register(context: Context, cacheManager: ICacheManager) {
+        synchronized(this) {
+            if (!registered) {
+                (context.applicationContext ?: context).registerComponentCallbacks(this)
+                registered = true
+            }
+
+            caches.removeAll { it.get() == null }
+
+            // Shared caches are registered by every SDK instance that uses them
+            if (caches.none { it.get() === cacheManager }) {
+                caches.add(WeakReference(cacheManager))
+            }
+        }
+    }
+
+    override fun onTrimMemory(level: Int) {
+        val liveCaches = synchronized(this) {
+            caches.removeAll { it.get() == null }
+            caches.mapNotNull { it.get() }
+        }
+
+        liveCaches.forEach { it.trimMemory(level) }
+    }
+
+    @Suppress("DEPRECATION")
+    override fun onLowMemory() {
+        onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE)
+    }
+
+    override fun onConfigurationChanged(newConfig: Configuration) {
+        // Not relevant for caching
+    }
+}
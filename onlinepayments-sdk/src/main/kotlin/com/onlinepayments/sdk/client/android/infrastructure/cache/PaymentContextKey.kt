@@ -0,0 +1,49 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.onlinepayments.sdk.client.android.domain.AmountOfMoney
+
+/**
+ * The payment context fields that determine a cached response, with a precomputed hash code.
+ */
+internal class PaymentContextKey(
+    val amount: Long?,
+    val countryCode: String?,
+    val isRecurring: Boolean?,
+    val currencyCode: String,
+) {
+    private val hash: Int = run {
+        var result = amount?.hashCode() ?: 0
+        result = 31 * result + (countryCode?.hashCode() ?: 0)
+        result = 31 * result + (isRecurring?.hashCode() ?: 0)
+        31 * result + currencyCode.hashCode()
+    }
+
+    constructor(amountOfMoney: AmountOfMoney) : this(amountOfMoney.amount, null, null, amountOfMoney.currencyCode)
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        if (other !is PaymentContextKey) return false
+
+        return hash == other.hash &&
+            amount == other.amount &&
+            countryCode == other.countryCode &&
+            isRecurring == other.isRecurring &&
+            currencyCode == other.currencyCode
+    }
+
+    override fun hashCode(): Int = hash
+
+    override fun toString(): String {
+        return listOfNotNull(amount, countryCode, isRecurring, currencyCode).joinToString("_")
+    }
+}
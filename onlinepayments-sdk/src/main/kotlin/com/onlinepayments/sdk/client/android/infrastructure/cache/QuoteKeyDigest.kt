@@ -0,0 +1,63 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.onlinepayments.sdk.client.android.domain.Constants
+import com.onlinepayments.sdk.client.android.domain.card.CardSource
+import java.security.MessageDigest
+import java.security.SecureRandom
+
+/**
+ * Turns the card of a surcharge or currency conversion request into a fixed-size cache key suffix.
+ *
+ * Quotes depend on the BIN and the payment product of a card, not on the digits after them, so only the first
+ * [Constants.MAX_CHARS_PAYMENT_PRODUCT_ID_LOOKUP] digits are used: typing more digits reuses the cached quote. The
+ * BIN and payment product, or the token, are hashed with a random salt of this instance, so the cache holds no card
+ * digits or tokens and every key suffix has the same size.
+ */
+internal class QuoteKeyDigest(private val salt: ByteArray = randomSalt()) {
+
+    fun suffixOf(cardSource: CardSource): String? {
+        val card = cardSource.card
+        val value = when {
+            card != null -> {
+                val bin = card.cardNumber.take(Constants.MAX_CHARS_PAYMENT_PRODUCT_ID_LOOKUP)
+                "card:$bin:${card.paymentProductId}"
+            }
+
+            cardSource.token != null -> "token:${cardSource.token}"
+            else -> return null
+        }
+
+        val digest = MessageDigest.getInstance(ALGORITHM)
+        digest.update(salt)
+        val hash = digest.digest(value.toByteArray(Charsets.UTF_8))
+
+        return buildString(DIGEST_BYTES * 2) {
+            for (index in 0 until DIGEST_BYTES) {
+                val byte = hash[index].toInt()
+                append(HEX_DIGITS[byte shr 4 and 0x0F])
+                append(HEX_DIGITS[byte and 0x0F])
+            }
+        }
+    }
+
+    private companion object {
+        const val ALGORITHM = "SHA-256"
+        const val SALT_BYTES = 16
+
+        // 128 bits make collisions between the keys of one session practically impossible
+        const val DIGEST_BYTES = 16
+        const val HEX_DIGITS = "0123456789abcdef"
+
+        fun randomSalt(): ByteArray = ByteArray(SALT_BYTES).also { SecureRandom().nextBytes(it) }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.onlinepayments.sdk.client.android.infrastructure.interfaces.ICacheManager
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+
+/**
+ * Process-wide caches for payment product networks, the only responses that do not depend on the client session,
+ * shared by the SDK instances of the same merchant.
+ *
+ * Caches are held strongly, so networks survive between client sessions, but only for the most recently
+ * used [MAX_NAMESPACES] merchants. Background refreshes of shared caches run in a scope of their own, since
+ * the SDK instance that created a cache may be gone by the time it is refreshed.
+ */
+internal object SharedCacheRegistry {
+    private const val MAX_NAMESPACES = 4
+
+    private val refreshScope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+    private val caches = LinkedHashMap<String, ICacheManager>(MAX_NAMESPACES, 0.75f, true)
+
+    /**
+     * Returns the shared cache for [namespace], creating it with [create] when there is none yet.
+     */
+    fun getOrCreate(namespace: String, create: (CoroutineScope) -> ICacheManager): ICacheManager {
+        synchronized(this) {
+            val cache = caches.getOrPut(namespace) { create(refreshScope) }
+
+            if (caches.size > MAX_NAMESPACES) {
+                caches.remove(caches.keys.first())
+            }
+
+            return cache
+        }
+    }
+}
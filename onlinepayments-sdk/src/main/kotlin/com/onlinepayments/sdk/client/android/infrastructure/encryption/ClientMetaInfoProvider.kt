@@ -0,0 +1,63 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.encryption
+
+import android.content.Context
+
+/**
+ * Holds the Base64 encoded client meta info of one SDK instance.
+ *
+ * The metadata is collected and encoded on first use and reused afterwards. Only the screen size can change
+ * while the app is running, so the value is rebuilt when the screen dimensions or density of the current
+ * configuration differ from the ones it was built for, e.g. after a rotation or when moved to another display.
+ *
+ * @param context used for retrieving device metadata
+ * @param appIdentifier a String that describes the application, preferably with version number
+ * @param sdkIdentifier identifier of the SDK sent in the meta info
+ */
+internal class ClientMetaInfoProvider(
+    private val context: Context,
+    private val appIdentifier: String?,
+    private val sdkIdentifier: String
+) {
+    @Volatile
+    private var snapshot: Snapshot? = null
+
+    /**
+     * The encoded client meta info, or null when no metadata is available.
+     */
+    val encoded: String?
+        get() {
+            val display = currentDisplay()
+            val current = snapshot
+
+            if (current != null && current.display == display) {
+                return current.encoded
+            }
+
+            val metadata = MetadataUtil.getMetadata(context, appIdentifier, sdkIdentifier)
+            val encoded = if (metadata.isNotEmpty()) MetadataUtil.getBase64EncodedMetadata(metadata) else null
+
+            snapshot = Snapshot(display, encoded)
+
+            return encoded
+        }
+
+    private fun currentDisplay(): Display? {
+        val configuration = context.resources?.configuration ?: return null
+
+        return Display(configuration.screenWidthDp, configuration.screenHeightDp, configuration.densityDpi)
+    }
+
+    private data class Display(val widthDp: Int, val heightDp: Int, val densityDpi: Int)
+
+    private class Snapshot(val display: Display?, val encoded: String?)
+}
@@ -20,6 +20,7 @@ import java.nio.charset.StandardCharsets
 
 internal object MetadataUtil {
     private val encryptionUtil = EncryptionUtil()
+    private val gson = Gson()
 
     // Metadata map keys
     private const val METADATA_PLATFORM_IDENTIFIER = "platformIdentifier"
@@ -97,7 +98,7 @@ internal object MetadataUtil {
      * @return String containing base64 url of json representation of the metadata
      */
     fun getBase64EncodedMetadata(context: Context, appIdentifier: String?, sdkIdentifier: String): String {
-        val jsonMetadata = Gson().toJson(getMetadata(context, appIdentifier, sdkIdentifier))
+        val jsonMetadata = gson.toJson(getMetadata(context, appIdentifier, sdkIdentifier))
 
         return encode(jsonMetadata)
     }
@@ -110,7 +111,7 @@ internal object MetadataUtil {
      * @return String containing base64 url of json representation of the metadata
      */
     fun getBase64EncodedMetadata(metadata: Map<String, String>): String {
-        val jsonMetadata = Gson().toJson(metadata)
+        val jsonMetadata = gson.toJson(metadata)
 
         return encode(jsonMetadata)
     }
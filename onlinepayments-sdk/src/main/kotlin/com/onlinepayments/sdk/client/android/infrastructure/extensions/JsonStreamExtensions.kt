@@ -0,0 +1,161 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.extensions
+
+import com.google.gson.JsonParseException
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.JsonWriter
+
+// The readers below accept the same token types Gson's built-in adapters do, e.g. a number for a String property.
+
+internal fun JsonReader.nextStringOrNull(): String? {
+    return when (peek()) {
+        JsonToken.NULL -> {
+            nextNull()
+            null
+        }
+
+        JsonToken.BOOLEAN -> nextBoolean().toString()
+        else -> nextString()
+    }
+}
+
+internal fun JsonReader.nextBooleanOrNull(): Boolean? {
+    return when (peek()) {
+        JsonToken.NULL -> {
+            nextNull()
+            null
+        }
+
+        JsonToken.STRING -> nextString().toBoolean()
+        else -> nextBoolean()
+    }
+}
+
+internal fun JsonReader.nextIntOrNull(): Int? = nextValueOrNull { nextInt() }
+
+internal fun JsonReader.nextLongOrNull(): Long? = nextValueOrNull { nextLong() }
+
+internal fun JsonReader.nextDoubleOrNull(): Double? = nextValueOrNull { nextDouble() }
+
+internal fun <T : Any> JsonReader.nextOrNull(adapter: TypeAdapter<T>): T? = nextValueOrNull { adapter.read(this) }
+
+/**
+ * Reads an object, calling [readProperty] with the name of every property; it must consume or skip the value.
+ */
+internal inline fun JsonReader.readObject(readProperty: (String) -> Unit) {
+    beginObject()
+
+    while (hasNext()) {
+        readProperty(nextName())
+    }
+
+    endObject()
+}
+
+/**
+ * Reads an object like [readObject], or consumes the value without calling [readProperty] when it is null.
+ */
+internal inline fun JsonReader.readObjectOrNull(readProperty: (String) -> Unit) {
+    if (peek() == JsonToken.NULL) {
+        nextNull()
+    } else {
+        readObject(readProperty)
+    }
+}
+
+/**
+ * Reads an array, or null when the value is null. Null elements are left out, like Gson does for non-null lists.
+ */
+internal inline fun <T> JsonReader.nextListOrNull(readElement: JsonReader.() -> T?): ArrayList<T>? {
+    if (peek() == JsonToken.NULL) {
+        nextNull()
+        return null
+    }
+
+    val list = ArrayList<T>()
+
+    beginArray()
+
+    while (hasNext()) {
+        readElement()?.let { list.add(it) }
+    }
+
+    endArray()
+
+    return list
+}
+
+internal fun <T : Any> requireProperty(value: T?, name: String, type: String): T {
+    return value ?: throw JsonParseException("Missing required property '$name' of $type")
+}
+
+private inline fun <T> JsonReader.nextValueOrNull(read: JsonReader.() -> T): T? {
+    if (peek() == JsonToken.NULL) {
+        nextNull()
+        return null
+    }
+
+    return read()
+}
+
+// The writers below leave out null values, like Gson does by default.
+
+internal inline fun JsonWriter.writeObject(writeProperties: JsonWriter.() -> Unit) {
+    beginObject()
+    writeProperties()
+    endObject()
+}
+
+internal fun JsonWriter.property(name: String, value: String?) {
+    if (value != null) {
+        this.name(name).value(value)
+    }
+}
+
+internal fun JsonWriter.property(name: String, value: Boolean?) {
+    if (value != null) {
+        this.name(name).value(value)
+    }
+}
+
+internal fun JsonWriter.property(name: String, value: Number?) {
+    if (value != null) {
+        this.name(name).value(value)
+    }
+}
+
+internal fun <T : Any> JsonWriter.property(name: String, value: T?, adapter: TypeAdapter<T>) {
+    if (value != null) {
+        this.name(name)
+        adapter.write(this, value)
+    }
+}
+
+internal inline fun <T> JsonWriter.listProperty(
+    name: String,
+    values: List<T>?,
+    writeElement: JsonWriter.(T & Any) -> Unit
+) {
+    if (values == null) {
+        return
+    }
+
+    this.name(name).beginArray()
+
+    for (value in values) {
+        if (value == null) nullValue() else writeElement(value)
+    }
+
+    endArray()
+}
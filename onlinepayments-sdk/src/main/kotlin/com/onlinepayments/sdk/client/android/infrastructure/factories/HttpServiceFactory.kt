@@ -11,30 +11,34 @@
 package com.onlinepayments.sdk.client.android.infrastructure.factories
 
 import android.content.Context
-import com.google.gson.Gson
 import com.onlinepayments.sdk.client.android.domain.Constants
+import com.onlinepayments.sdk.client.android.domain.configuration.CircuitBreakerConfiguration
 import com.onlinepayments.sdk.client.android.domain.configuration.SdkConfiguration
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
-import com.onlinepayments.sdk.client.android.infrastructure.encryption.MetadataUtil
+import com.onlinepayments.sdk.client.android.domain.configuration.TimeoutConfiguration
+import com.onlinepayments.sdk.client.android.infrastructure.encryption.ClientMetaInfoProvider
 import com.onlinepayments.sdk.client.android.infrastructure.http.ApiClient
+import com.onlinepayments.sdk.client.android.infrastructure.http.CircuitBreaker
+import com.onlinepayments.sdk.client.android.infrastructure.http.RetryPolicy
+import com.onlinepayments.sdk.client.android.infrastructure.http.SharedHttpClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiLogger
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IGoPayApi
+import com.onlinepayments.sdk.client.android.infrastructure.json.ApiJson
 import com.onlinepayments.sdk.client.android.infrastructure.models.ApiVersion
 import com.onlinepayments.sdk.client.android.infrastructure.utils.ApiLogger
 import com.onlinepayments.sdk.client.android.infrastructure.utils.ApiUrlBuilder
 import okhttp3.Interceptor
-import okhttp3.OkHttpClient
 import okhttp3.Request
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
-import java.security.KeyStore
-import java.security.SecureRandom
-import javax.net.ssl.SSLContext
-import javax.net.ssl.TrustManagerFactory
-import javax.net.ssl.X509TrustManager
+import java.io.File
 
 internal object HttpServiceFactory {
+    private const val HTTP_CACHE_DIRECTORY_NAME = "onlinepayments-sdk-http-cache"
+
+    private val gsonConverterFactory by lazy { GsonConverterFactory.create(ApiJson.gson) }
+
     /**
      * Creates an API client with proper error handling at the infrastructure boundary.
      * Returns IApiClient which wraps the Retrofit interface and handles HTTP exceptions.
@@ -44,14 +48,14 @@ internal object HttpServiceFactory {
         sessionData: SessionData,
         context: Context,
         apiLogger: IApiLogger? = ApiLogger,
+        retryPolicy: RetryPolicy? = null,
     ): IApiClient {
-        // 1. Build TLS socket factory
-        val sslContext = SSLContext.getInstance("TLS").apply {
-            init(null, null, SecureRandom())
-        }
-        val tlsSocketFactory = TLSSocketFactory(sslContext.socketFactory)
-
-        // 2. Create OkHttp interceptors
+        // 1. Create OkHttp interceptors; the meta info is built once and reused for every request of the session
+        val clientMetaInfo = ClientMetaInfoProvider(
+            context,
+            configuration?.appIdentifier,
+            configuration?.sdkIdentifier ?: Constants.SDK_IDENTIFIER
+        )
         val sessionInterceptor = Interceptor { chain ->
             val original: Request = chain.request()
             val builder = original.newBuilder()
@@ -61,52 +65,50 @@ internal object HttpServiceFactory {
                 "GCS v1Client:${sessionData.clientSessionId}"
             )
 
-            val metadata =
-                MetadataUtil.getMetadata(
-                    context,
-                    configuration?.appIdentifier,
-                    configuration?.sdkIdentifier ?: Constants.SDK_IDENTIFIER
-                )
-            if (metadata.isNotEmpty()) {
-                val encoded = MetadataUtil.getBase64EncodedMetadata(metadata)
+            clientMetaInfo.encoded?.let { encoded ->
                 builder.header("X-GCS-ClientMetaInfo", encoded)
             }
 
             chain.proceed(builder.build())
         }
 
-        val okHttpClientBuilder = OkHttpClient.Builder()
-            .sslSocketFactory(tlsSocketFactory, getSystemTrustManager())
-            .addInterceptor(sessionInterceptor)
-
         // Only add logging interceptor if provided
-        apiLogger?.let {
-            okHttpClientBuilder.addInterceptor(it.getInterceptor())
-        }
+        val interceptors = listOfNotNull(sessionInterceptor, apiLogger?.getInterceptor())
 
-        val okHttpClient = okHttpClientBuilder.build()
+        // 2. Derive the session client from the shared transport, reusing its connection pool and TLS sessions
+        val cacheConfiguration = configuration?.cacheConfiguration
+        val httpCache = if (cacheConfiguration?.httpCacheEnabled == true) {
+            SharedHttpClient.httpCache(
+                directory = File(context.cacheDir, HTTP_CACHE_DIRECTORY_NAME),
+                maxBytes = cacheConfiguration.httpCacheMaxBytes
+            )
+        } else {
+            null
+        }
+        val timeouts = configuration?.timeoutConfiguration ?: TimeoutConfiguration()
+        val okHttpClient = SharedHttpClient.newSessionClient(interceptors, httpCache, timeouts)
 
         // Create Retrofit interface (infrastructure detail)
         val retrofitApi = Retrofit.Builder()
             .baseUrl(ApiUrlBuilder.getClientApiUrl(sessionData, ApiVersion.V1))
-            .addConverterFactory(GsonConverterFactory.create(Gson()))
+            .addConverterFactory(gsonConverterFactory)
             .client(okHttpClient)
             .build()
             .create(IGoPayApi::class.java)
 
-        return ApiClient(retrofitApi)
-    }
-
-    private fun getSystemTrustManager(): X509TrustManager {
-        val trustManagerFactory = TrustManagerFactory.getInstance(
-            TrustManagerFactory.getDefaultAlgorithm()
-        )
-        trustManagerFactory.init(null as KeyStore?)
-        val trustManagers = trustManagerFactory.trustManagers
-        require(trustManagers.size == 1 && trustManagers[0] is X509TrustManager) {
-            "Unexpected default trust managers: ${trustManagers.contentToString()}"
+        val circuitBreakerConfiguration = configuration?.circuitBreakerConfiguration ?: CircuitBreakerConfiguration()
+        val circuitBreaker = if (circuitBreakerConfiguration.enabled) {
+            CircuitBreaker(circuitBreakerConfiguration)
+        } else {
+            null
         }
 
-        return trustManagers[0] as X509TrustManager
+        return ApiClient(
+            retrofitApi,
+            cacheBusting = httpCache == null,
+            retryPolicy = retryPolicy,
+            timeouts = timeouts,
+            circuitBreaker = circuitBreaker
+        )
     }
 }
@@ -14,18 +14,10 @@ import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFile
 import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFileAttribute
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProducts
-import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
-import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.DataRestrictions
-import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductField
-import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.ProductFieldDisplayHints
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileAttributeDto
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileDto
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductDto
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.DataRestrictionsDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductFieldDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.displayHints.ProductFieldDisplayHintsDto
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPaymentProductFactory
 import com.onlinepayments.sdk.client.android.infrastructure.utils.StringFormatter
 
@@ -58,24 +50,6 @@ internal class PaymentProductFactory : IPaymentProductFactory {
         )
     }
 
-    override fun createPaymentProduct(dto: PaymentProductDto): PaymentProduct {
-        return PaymentProduct(
-            id = dto.id,
-            paymentMethod = dto.paymentMethod,
-            paymentProductGroup = dto.paymentProductGroup,
-            allowsRecurring = dto.allowsRecurring ?: false,
-            allowsTokenization = dto.allowsTokenization ?: false,
-            usesRedirectionTo3rdParty = dto.usesRedirectionTo3rdParty ?: false,
-            paymentProduct302SpecificData = dto.paymentProduct302SpecificData,
-            paymentProduct320SpecificData = dto.paymentProduct320SpecificData,
-            logo = dto.displayHints?.logo,
-            label = dto.displayHints?.label,
-            displayOrder = dto.displayHints?.displayOrder,
-            accountsOnFile = dto.accountsOnFile?.map { createAccountOnFile(it) } ?: emptyList(),
-            fields = dto.fields.map { createPaymentProductField(it) }.sortedBy { it.displayHints.displayOrder }
-        )
-    }
-
     fun createAccountOnFile(dto: AccountOnFileDto): AccountOnFile {
         val attributes = dto.attributes.map { dto ->
             AccountOnFileAttribute(
@@ -98,44 +72,23 @@ internal class PaymentProductFactory : IPaymentProductFactory {
         )
     }
 
-    fun createPaymentProductField(dto: PaymentProductFieldDto): PaymentProductField {
-        return PaymentProductField(
-            id = dto.id,
-            type = dto.type,
-            displayHints = createDisplayHintsForField(dto.displayHints),
-            dataRestrictions = createDataRestrictions(dto.dataRestrictions)
-        )
-    }
-
-    fun createDisplayHintsForField(dto: ProductFieldDisplayHintsDto): ProductFieldDisplayHints {
-        return ProductFieldDisplayHints(
-            alwaysShow = dto.alwaysShow,
-            obfuscate = dto.obfuscate,
-            displayOrder = dto.displayOrder ?: Int.MAX_VALUE,
-            label = dto.label,
-            placeholderLabel = dto.placeholderLabel,
-            mask = dto.mask,
-            preferredInputType = dto.preferredInputType,
-            tooltipLabel = dto.tooltip?.label,
-            formElementType = dto.formElement?.type?.toString()
-        )
-    }
-
-    fun createDataRestrictions(dto: DataRestrictionsDto): DataRestrictions {
-        return DataRestrictions(
-            required = dto.isRequired ?: false,
-            validationRules = ValidationRuleFactory().createRules(dto.validators)
+    private fun parseLabel(dto: AccountOnFileDto): String? {
+        return formatAccountOnFileLabel(
+            alias = dto.attributes.find { it.key == "alias" }?.value,
+            mask = dto.displayHints.labelTemplate.find { it?.attributeKey == "alias" }?.mask
         )
     }
 
-    private fun parseLabel(dto: AccountOnFileDto): String? {
-        val alias = dto.attributes.find { it.key == "alias" }?.value
-        val mask = dto.displayHints.labelTemplate.find { it?.attributeKey == "alias" }?.mask
-
-        return if (mask != null && alias != null) {
-            StringFormatter.applyMask(mask, alias) ?: alias
-        } else {
-            alias
+    companion object {
+        /**
+         * Formats the alias of an account on file with the mask of its label template, if there is one.
+         */
+        fun formatAccountOnFileLabel(alias: String?, mask: String?): String? {
+            return if (mask != null && alias != null) {
+                StringFormatter.applyMask(mask, alias) ?: alias
+            } else {
+                alias
+            }
         }
     }
 }
@@ -10,17 +10,33 @@
 
 package com.onlinepayments.sdk.client.android.infrastructure.factories
 
+import android.app.ActivityManager
+import android.content.Context
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.CacheConfiguration
+import com.onlinepayments.sdk.client.android.domain.configuration.RetryConfiguration
+import com.onlinepayments.sdk.client.android.infrastructure.cache.DiskCache
+import com.onlinepayments.sdk.client.android.infrastructure.cache.SharedCacheRegistry
+import com.onlinepayments.sdk.client.android.infrastructure.http.RetryPolicy
+import com.onlinepayments.sdk.client.android.infrastructure.http.SharedHttpClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.ICacheManager
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPaymentProductFactory
+import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPersistentCache
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IServiceFactory
+import com.onlinepayments.sdk.client.android.infrastructure.models.ApiVersion
+import com.onlinepayments.sdk.client.android.infrastructure.utils.ApiUrlBuilder
 import com.onlinepayments.sdk.client.android.infrastructure.utils.CacheManager
+import com.onlinepayments.sdk.client.android.services.CardResolutionService
 import com.onlinepayments.sdk.client.android.services.ClientService
 import com.onlinepayments.sdk.client.android.services.EncryptionService
 import com.onlinepayments.sdk.client.android.services.PaymentProductService
+import com.onlinepayments.sdk.client.android.services.interfaces.ICardResolutionService
 import com.onlinepayments.sdk.client.android.services.interfaces.IClientService
 import com.onlinepayments.sdk.client.android.services.interfaces.IEncryptionService
 import com.onlinepayments.sdk.client.android.services.interfaces.IPaymentProductService
+import kotlinx.coroutines.CoroutineScope
+import java.io.File
 
 /**
  * Factory for creating and managing service instances
@@ -35,10 +51,80 @@ internal class ServiceFactory internal constructor(
             props.sessionData,
             props.context,
             props.apiLogger,
+            retryPolicy,
         )
     }
 
-    override val cacheManager: ICacheManager by lazy { CacheManager() }
+    private val retryPolicy: RetryPolicy by lazy {
+        RetryPolicy(props.configuration?.retryConfiguration ?: RetryConfiguration()) { endpoint ->
+            // Retries are counted by the cache holding the responses of the endpoint
+            val metricsCache = if (endpoint in ApiEndpoint.SHAREABLE_ENDPOINTS) productCacheManager else cacheManager
+            metricsCache.recordRetry(endpoint)
+        }
+    }
+
+    private val cacheConfiguration: CacheConfiguration by lazy {
+        props.configuration?.cacheConfiguration ?: CacheConfiguration()
+    }
+
+    private val cacheNamespace: String by lazy {
+        "${props.sessionData.customerId}|${props.sessionData.clientApiUrl}"
+    }
+
+    override val cacheManager: ICacheManager by lazy {
+        createCacheManager(props.sessionScope)
+    }
+
+    override val productCacheManager: ICacheManager by lazy {
+        if (cacheConfiguration.shareAcrossSessions) {
+            SharedCacheRegistry.getOrCreate(cacheNamespace) { refreshScope -> createCacheManager(refreshScope) }
+        } else {
+            cacheManager
+        }
+    }
+
+    private fun createCacheManager(refreshScope: CoroutineScope?): ICacheManager {
+        return CacheManager(
+            maxSize = cacheConfiguration.maxEntries,
+            ttlMillis = cacheConfiguration.ttlMillis,
+            persistentCache = persistentCache,
+            maxStalenessMillis = cacheConfiguration.maxStalenessMillis,
+            refreshScope = refreshScope,
+            policies = cacheConfiguration.policies,
+            maxWeight = memoryBudgetBytes(cacheConfiguration),
+            negativeTtlMillis = cacheConfiguration.negativeTtlMillis,
+            negativeMaxEntries = cacheConfiguration.negativeMaxEntries
+        )
+    }
+
+    private fun memoryBudgetBytes(cacheConfiguration: CacheConfiguration): Long {
+        if (cacheConfiguration.maxMemoryBytes > 0) {
+            return cacheConfiguration.maxMemoryBytes
+        }
+
+        val activityManager = props.context.getSystemService(Context.ACTIVITY_SERVICE) as? ActivityManager
+        val memoryClassBytes = (activityManager?.memoryClass ?: 0) * 1024L * 1024L
+
+        if (memoryClassBytes <= 0) {
+            return Long.MAX_VALUE
+        }
+
+        // Low-RAM devices get half the share of an already smaller heap
+        return memoryClassBytes / if (activityManager?.isLowRamDevice == true) 128 else 64
+    }
+
+    private val persistentCache: IPersistentCache? by lazy {
+        if (cacheConfiguration.diskCacheEnabled) {
+            DiskCache(
+                directory = File(props.context.cacheDir, DiskCache.DIRECTORY_NAME),
+                namespace = cacheNamespace,
+                maxBytes = cacheConfiguration.diskCacheMaxBytes,
+                ttlMillis = cacheConfiguration.diskCacheTtlMillis
+            )
+        } else {
+            null
+        }
+    }
 
     private val paymentProductFactory: IPaymentProductFactory by lazy {
         props.paymentProductFactory ?: PaymentProductFactory()
@@ -57,7 +143,8 @@ internal class ServiceFactory internal constructor(
         props.clientService ?: ClientService(
             apiClient = apiClient,
             sessionData = props.sessionData,
-            cacheManager = cacheManager
+            cacheManager = cacheManager,
+            binRangeIndex = props.configuration?.binRangeIndex
         )
     }
 
@@ -68,7 +155,19 @@ internal class ServiceFactory internal constructor(
             sessionData = props.sessionData,
             configuration = props.configuration,
             cacheManager = cacheManager,
+            productCacheManager = productCacheManager,
             paymentProductFactory = paymentProductFactory
         )
     }
+
+    override val cardResolutionService: ICardResolutionService by lazy {
+        props.cardResolutionService ?: CardResolutionService(
+            clientService = clientService,
+            paymentProductService = paymentProductService
+        )
+    }
+
+    override fun warmUp(): Boolean {
+        return SharedHttpClient.warmUp(ApiUrlBuilder.getClientApiUrl(props.sessionData, ApiVersion.V1))
+    }
 }
@@ -16,18 +16,22 @@ import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiLogger
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPaymentProductFactory
+import com.onlinepayments.sdk.client.android.services.interfaces.ICardResolutionService
 import com.onlinepayments.sdk.client.android.services.interfaces.IClientService
 import com.onlinepayments.sdk.client.android.services.interfaces.IEncryptionService
 import com.onlinepayments.sdk.client.android.services.interfaces.IPaymentProductService
+import kotlinx.coroutines.CoroutineScope
 
 internal data class ServiceFactoryConfiguration(
     val sessionData: SessionData,
     val configuration: SdkConfiguration?,
     val context: Context,
+    val sessionScope: CoroutineScope? = null,
     val apiLogger: IApiLogger? = null,
     val apiClient: IApiClient? = null,
     val encryptionService: IEncryptionService? = null,
     val paymentProductService: IPaymentProductService? = null,
     val paymentProductFactory: IPaymentProductFactory? = null,
-    val clientService: IClientService? = null
+    val clientService: IClientService? = null,
+    val cardResolutionService: ICardResolutionService? = null
 )
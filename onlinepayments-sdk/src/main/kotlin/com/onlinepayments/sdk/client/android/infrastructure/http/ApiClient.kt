@@ -10,19 +10,22 @@
 
 package com.onlinepayments.sdk.client.android.infrastructure.http
 
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.TimeoutConfiguration
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionRequest
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionResponse
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsRequest
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationRequest
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.publicKey.PublicKeyResponseDto
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IGoPayApi
 import com.onlinepayments.sdk.client.android.infrastructure.utils.ApiCallExecutor
+import kotlinx.coroutines.withTimeout
 import java.util.Date
 
 /**
@@ -31,16 +34,28 @@ import java.util.Date
  * ApiCallExecutor to translate HTTP exceptions into domain exceptions.
  *
  * @param api The Retrofit-generated API interface for making HTTP calls
+ * @param cacheBusting Whether payment product network requests get a unique query parameter, so that they bypass
+ *   HTTP caches. Disabled when the HTTP cache is used, so unchanged responses can be revalidated instead. Product
+ *   lists and details are bound to the session through their accounts on file, so they always bypass HTTP caches.
+ * @param retryPolicy Retries calls that failed because of a network error; GET requests are idempotent,
+ *   POST requests are only retried when they could not be sent. No retries when null.
+ * @param timeouts Time budget per endpoint of a call, including its retries. No budget when null.
+ * @param circuitBreaker Fails calls to an endpoint immediately while that endpoint keeps failing. All calls are
+ *   made when null.
  */
 internal class ApiClient(
-    private val api: IGoPayApi
+    private val api: IGoPayApi,
+    private val cacheBusting: Boolean = true,
+    private val retryPolicy: RetryPolicy? = null,
+    private val timeouts: TimeoutConfiguration? = null,
+    private val circuitBreaker: CircuitBreaker? = null
 ) : IApiClient {
 
     override suspend fun getBasicPaymentProducts(
         customerId: String,
         params: Map<String, String>
     ): BasicPaymentProductsDto {
-        return ApiCallExecutor.callApi {
+        return callApi(ApiEndpoint.PAYMENT_PRODUCTS, idempotent = true) {
             api.getBasicPaymentProducts(
                 customerId = customerId,
                 params = params,
@@ -54,8 +69,8 @@ internal class ApiClient(
         customerId: String,
         productId: String,
         params: Map<String, String>?
-    ): PaymentProductDto {
-        return ApiCallExecutor.callApi {
+    ): PaymentProduct {
+        return callApi(ApiEndpoint.PAYMENT_PRODUCT, idempotent = true) {
             api.getPaymentProduct(
                 customerId = customerId,
                 productId = productId,
@@ -70,21 +85,51 @@ internal class ApiClient(
         productId: String,
         params: Map<String, String>?
     ): PaymentProductNetworksResponse {
-        return ApiCallExecutor.callApi {
+        return callApi(ApiEndpoint.PAYMENT_PRODUCT_NETWORKS, idempotent = true) {
             api.getPaymentProductNetworks(
                 customerId = customerId,
                 productId = productId,
                 params = params,
-                cacheBuster = Date().time
+                cacheBuster = cacheBuster()
             )
         }
     }
 
+    private fun cacheBuster(): Long? = if (cacheBusting) Date().time else null
+
+    private suspend fun <T> callApi(endpoint: ApiEndpoint, idempotent: Boolean, apiCall: suspend () -> T): T {
+        val breaker = circuitBreaker ?: return callApiWithTimeout(endpoint, idempotent, apiCall)
+
+        return breaker.execute(endpoint) { callApiWithTimeout(endpoint, idempotent, apiCall) }
+    }
+
+    private suspend fun <T> callApiWithTimeout(
+        endpoint: ApiEndpoint,
+        idempotent: Boolean,
+        apiCall: suspend () -> T
+    ): T {
+        val timeoutMillis = timeouts?.callTimeoutMillis(endpoint) ?: 0L
+
+        return ApiCallExecutor.callApi {
+            if (timeoutMillis > 0) {
+                withTimeout(timeoutMillis) { execute(endpoint, idempotent, apiCall) }
+            } else {
+                execute(endpoint, idempotent, apiCall)
+            }
+        }
+    }
+
+    private suspend fun <T> execute(endpoint: ApiEndpoint, idempotent: Boolean, apiCall: suspend () -> T): T {
+        val policy = retryPolicy ?: return apiCall()
+
+        return policy.execute(endpoint, idempotent, apiCall)
+    }
+
     override suspend fun getIinDetails(
         customerId: String,
         request: IinDetailsRequest
     ): IinDetailsResponse {
-        return ApiCallExecutor.callApi {
+        return callApi(ApiEndpoint.IIN_DETAILS, idempotent = false) {
             api.getIinDetails(
                 customerId = customerId,
                 request = request
@@ -95,7 +140,7 @@ internal class ApiClient(
     override suspend fun getPublicKey(
         customerId: String
     ): PublicKeyResponseDto {
-        return ApiCallExecutor.callApi {
+        return callApi(ApiEndpoint.PUBLIC_KEY, idempotent = true) {
             api.getPublicKey(customerId = customerId)
         }
     }
@@ -104,7 +149,7 @@ internal class ApiClient(
         customerId: String,
         request: CurrencyConversionRequest
     ): CurrencyConversionResponse {
-        return ApiCallExecutor.callApi {
+        return callApi(ApiEndpoint.CURRENCY_CONVERSION_QUOTE, idempotent = false) {
             api.getCurrencyConversionQuote(
                 customerId = customerId,
                 request = request
@@ -116,7 +161,7 @@ internal class ApiClient(
         customerId: String,
         request: SurchargeCalculationRequest
     ): SurchargeCalculationResponse {
-        return ApiCallExecutor.callApi {
+        return callApi(ApiEndpoint.SURCHARGE_CALCULATION, idempotent = false) {
             api.getSurchargeCalculation(
                 customerId = customerId,
                 request = request
@@ -0,0 +1,164 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.CircuitBreakerConfiguration
+import com.onlinepayments.sdk.client.android.domain.exceptions.CircuitBreakerOpenException
+import com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationException
+import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
+import kotlinx.coroutines.CancellationException
+import java.util.EnumMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * Keeps a circuit per endpoint, as configured by [CircuitBreakerConfiguration], so that calls to an endpoint that
+ * keeps failing fail immediately instead of waiting for their time budget.
+ *
+ * A closed circuit lets all calls through and counts consecutive failures. When the threshold is reached the
+ * circuit opens and calls fail with [CircuitBreakerOpenException]. Once the open duration has passed, the circuit
+ * is half-open and lets a limited number of trial calls through; the first trial that completes decides whether
+ * the circuit closes or opens again.
+ *
+ * Every state change starts a new epoch of the circuit. An outcome only counts when the call was let through in the
+ * current epoch, so that a slow call that was let through before the circuit changed state cannot close an open
+ * circuit or open a half-open one again.
+ *
+ * @param clockMillis Monotonic clock in milliseconds.
+ */
+internal class CircuitBreaker(
+    private val configuration: CircuitBreakerConfiguration,
+    private val clockMillis: () -> Long = { TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) }
+) {
+    private val circuits = EnumMap<ApiEndpoint, Circuit>(ApiEndpoint::class.java)
+
+    /**
+     * Runs [call] when the circuit of [endpoint] allows it, and records its outcome.
+     *
+     * @throws CircuitBreakerOpenException if the circuit of [endpoint] is open
+     */
+    suspend fun <T> execute(endpoint: ApiEndpoint, call: suspend () -> T): T {
+        val epoch = acquire(endpoint)
+
+        val result = try {
+            call()
+        } catch (e: CancellationException) {
+            // A cancelled call tells nothing about the endpoint
+            release(endpoint, epoch)
+            throw e
+        } catch (e: Exception) {
+            if (isFailure(e)) onFailure(endpoint, epoch) else onSuccess(endpoint, epoch)
+            throw e
+        }
+
+        onSuccess(endpoint, epoch)
+
+        return result
+    }
+
+    internal fun state(endpoint: ApiEndpoint): State = synchronized(circuits) {
+        circuits[endpoint]?.state ?: State.CLOSED
+    }
+
+    /**
+     * Lets a call through, or throws [CircuitBreakerOpenException].
+     *
+     * @return The epoch in which the call was let through
+     */
+    private fun acquire(endpoint: ApiEndpoint): Long = synchronized(circuits) {
+        val circuit = circuits.getOrPut(endpoint) { Circuit() }
+
+        if (circuit.state == State.OPEN) {
+            val retryAfterMillis = circuit.openedAt + configuration.openDurationMillis - clockMillis()
+            if (retryAfterMillis > 0) {
+                throw CircuitBreakerOpenException(endpoint, retryAfterMillis)
+            }
+
+            circuit.transitionTo(State.HALF_OPEN)
+        }
+
+        if (circuit.state == State.HALF_OPEN) {
+            if (circuit.trialCalls >= configuration.halfOpenMaxCalls.coerceAtLeast(1)) {
+                throw CircuitBreakerOpenException(endpoint, 0)
+            }
+
+            circuit.trialCalls++
+        }
+
+        circuit.epoch
+    }
+
+    private fun release(endpoint: ApiEndpoint, epoch: Long) = synchronized(circuits) {
+        val circuit = circuits.getValue(endpoint)
+        if (circuit.epoch == epoch && circuit.state == State.HALF_OPEN && circuit.trialCalls > 0) {
+            circuit.trialCalls--
+        }
+    }
+
+    private fun onSuccess(endpoint: ApiEndpoint, epoch: Long) = synchronized(circuits) {
+        val circuit = circuits.getValue(endpoint)
+        if (circuit.epoch == epoch) {
+            circuit.failures = 0
+            if (circuit.state != State.CLOSED) {
+                circuit.transitionTo(State.CLOSED)
+            }
+        }
+    }
+
+    private fun onFailure(endpoint: ApiEndpoint, epoch: Long) = synchronized(circuits) {
+        val circuit = circuits.getValue(endpoint)
+        if (circuit.epoch == epoch) {
+            circuit.failures++
+
+            if (circuit.state == State.HALF_OPEN || circuit.failures >= configuration.failureThreshold) {
+                circuit.transitionTo(State.OPEN)
+                circuit.openedAt = clockMillis()
+            }
+        }
+    }
+
+    /**
+     * Network errors, exceeded time budgets and server errors show that the endpoint does not work; other error
+     * responses are answers of a working endpoint.
+     */
+    private fun isFailure(e: Exception): Boolean {
+        return when (e) {
+            is CommunicationException -> true
+            is ResponseException -> (e.httpStatusCode ?: 0) >= HTTP_SERVER_ERROR
+            else -> false
+        }
+    }
+
+    internal enum class State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private class Circuit {
+        var state = State.CLOSED
+        var epoch = 0L
+        var failures = 0
+        var openedAt = 0L
+        var trialCalls = 0
+
+        fun transitionTo(newState: State) {
+            state = newState
+            epoch++
+            failures = 0
+            trialCalls = 0
+        }
+    }
+
+    private companion object {
+        const val HTTP_SERVER_ERROR = 500
+    }
+}
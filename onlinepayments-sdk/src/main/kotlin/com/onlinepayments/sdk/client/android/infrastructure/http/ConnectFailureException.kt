@@ -0,0 +1,23 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import java.io.IOException
+
+/**
+ * Failure of a call for which no connection could be set up, so the request has not been sent.
+ */
+internal class ConnectFailureException(cause: IOException) : IOException(cause.message, cause) {
+    companion object {
+        @Suppress("Unused")
+        private const val serialVersionUID = 4735102986631274859L
+    }
+}
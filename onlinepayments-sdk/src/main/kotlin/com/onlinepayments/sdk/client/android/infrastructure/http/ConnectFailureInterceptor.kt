@@ -0,0 +1,53 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import okhttp3.Interceptor
+import okhttp3.Response
+import java.io.IOException
+
+/**
+ * Marks the failures of calls for which no connection could be set up, so that they can be told apart from
+ * failures after the request may have been sent without relying on exception messages, which differ per platform.
+ *
+ * Added as the outermost application interceptor, together with [networkInterceptor] as network interceptor.
+ * Network interceptors only run once a connection has been set up, so a call that fails before reaching
+ * [networkInterceptor] failed while resolving the host, connecting or in the TLS handshake; its failure is
+ * rethrown as [ConnectFailureException].
+ */
+internal object ConnectFailureInterceptor : Interceptor {
+    val networkInterceptor = Interceptor { chain ->
+        chain.request().tag(ConnectAttempt::class.java)?.connected = true
+        chain.proceed(chain.request())
+    }
+
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val attempt = ConnectAttempt()
+        val request = chain.request().newBuilder()
+            .tag(ConnectAttempt::class.java, attempt)
+            .build()
+
+        try {
+            return chain.proceed(request)
+        } catch (e: IOException) {
+            if (attempt.connected || e is ConnectFailureException || chain.call().isCanceled()) {
+                throw e
+            }
+
+            throw ConnectFailureException(e)
+        }
+    }
+
+    private class ConnectAttempt {
+        @Volatile
+        var connected = false
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.RetryConfiguration
+import kotlinx.coroutines.delay
+import java.net.ConnectException
+import java.net.NoRouteToHostException
+import java.net.SocketException
+import java.net.SocketTimeoutException
+import java.net.UnknownHostException
+import java.util.concurrent.TimeUnit
+import kotlin.math.pow
+import kotlin.random.Random
+
+/**
+ * Retries API calls that failed because of a transient network error, as configured by [RetryConfiguration].
+ *
+ * Only failures of the transport are retried, never error responses or responses that could not be parsed.
+ * Calls that are not idempotent are only retried when the connection could not be set up, because after that
+ * point the server may already have processed the request.
+ *
+ * @param onRetry Invoked for every retry, before waiting for the backoff delay.
+ */
+internal class RetryPolicy(
+    private val configuration: RetryConfiguration,
+    private val onRetry: ((ApiEndpoint) -> Unit)? = null,
+    private val random: Random = Random.Default
+) {
+    /**
+     * Runs [call], retrying it while it fails with a retryable error, attempts are left and the deadline has not
+     * passed. The error of the last attempt is rethrown.
+     *
+     * @param idempotent Whether [call] can safely be sent more than once, which is the case for GET requests
+     */
+    suspend fun <T> execute(endpoint: ApiEndpoint, idempotent: Boolean, call: suspend () -> T): T {
+        val start = System.nanoTime()
+        var attempt = 1
+
+        while (true) {
+            try {
+                return call()
+            } catch (e: Exception) {
+                val backoffMillis = backoffMillis(attempt)
+                val elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+
+                if (attempt >= configuration.maxAttempts ||
+                    elapsedMillis + backoffMillis > configuration.deadlineMillis ||
+                    !isRetryable(e, idempotent)
+                ) {
+                    throw e
+                }
+
+                onRetry?.invoke(endpoint)
+                delay(backoffMillis)
+                attempt++
+            }
+        }
+    }
+
+    /**
+     * Exponential backoff with jitter: a random part of up to half of the delay is subtracted.
+     */
+    internal fun backoffMillis(attempt: Int): Long {
+        val exponential = configuration.initialBackoffMillis * configuration.backoffMultiplier.pow(attempt - 1)
+        val capped = exponential.coerceAtMost(configuration.maxBackoffMillis.toDouble()).toLong()
+
+        return capped - random.nextLong(capped / 2 + 1)
+    }
+
+    private fun isRetryable(e: Exception, idempotent: Boolean): Boolean {
+        return if (idempotent) isNetworkFailure(e) else isConnectFailure(e)
+    }
+
+    private fun isNetworkFailure(e: Exception): Boolean {
+        return e is ConnectFailureException ||
+            e is SocketException ||
+            e is SocketTimeoutException ||
+            e is UnknownHostException
+    }
+
+    /**
+     * Connect timeouts are only recognized through [ConnectFailureInterceptor]; a bare [SocketTimeoutException]
+     * may be a read timeout of a request that was already sent.
+     */
+    private fun isConnectFailure(e: Exception): Boolean {
+        return e is ConnectFailureException ||
+            e is ConnectException ||
+            e is NoRouteToHostException ||
+            e is UnknownHostException
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import com.onlinepayments.sdk.client.android.domain.configuration.TimeoutConfiguration
+import com.onlinepayments.sdk.client.android.infrastructure.factories.TLSSocketFactory
+import okhttp3.Cache
+import okhttp3.Call
+import okhttp3.Callback
+import okhttp3.HttpUrl.Companion.toHttpUrlOrNull
+import okhttp3.Interceptor
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.Response
+import java.io.File
+import java.io.IOException
+import java.security.KeyStore
+import java.security.SecureRandom
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import javax.net.ssl.SSLContext
+import javax.net.ssl.TrustManagerFactory
+import javax.net.ssl.X509TrustManager
+
+/**
+ * Process-wide HTTP transport shared by all SDK instances.
+ *
+ * Every client session gets its own [OkHttpClient] derived from [client] through [OkHttpClient.newBuilder],
+ * so sessions only differ in their interceptors while sharing the connection pool, the dispatcher threads and,
+ * through the single [SSLContext], the TLS session cache. A new checkout can therefore reuse a connection or
+ * resume a TLS session set up by an earlier one.
+ */
+internal object SharedHttpClient {
+    val client: OkHttpClient by lazy {
+        val sslContext = SSLContext.getInstance("TLS").apply {
+            init(null, null, SecureRandom())
+        }
+
+        OkHttpClient.Builder()
+            .sslSocketFactory(TLSSocketFactory(sslContext.socketFactory), getSystemTrustManager())
+            .addInterceptor(ConnectFailureInterceptor)
+            .addNetworkInterceptor(ConnectFailureInterceptor.networkInterceptor)
+            .build()
+    }
+
+    private var httpCache: Cache? = null
+
+    private val warmingUpHosts = ConcurrentHashMap.newKeySet<String>()
+
+    /**
+     * Returns a client for a single session that adds [interceptors] on top of the shared transport,
+     * optionally stores responses in [cache] and applies the connect and read timeouts of [timeouts].
+     */
+    fun newSessionClient(
+        interceptors: List<Interceptor>,
+        cache: Cache? = null,
+        timeouts: TimeoutConfiguration? = null
+    ): OkHttpClient {
+        return client.newBuilder()
+            .apply { interceptors.forEach { addInterceptor(it) } }
+            .apply { cache?.let { cache(it) } }
+            .apply {
+                timeouts?.let {
+                    connectTimeout(it.connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                    readTimeout(it.readTimeoutMillis, TimeUnit.MILLISECONDS)
+                }
+            }
+            .build()
+    }
+
+    /**
+     * Returns the HTTP response cache in [directory]. OkHttp requires a single [Cache] per directory, so the
+     * cache is created once per process; the size of the first call applies.
+     */
+    @Synchronized
+    fun httpCache(directory: File, maxBytes: Long): Cache {
+        return httpCache ?: Cache(directory, maxBytes).also { httpCache = it }
+    }
+
+    /**
+     * Opens a connection to the host of [url] in the background by sending a HEAD request through the shared
+     * transport, so DNS resolution, the TCP connection and the TLS handshake are done before the first request of
+     * a session. The connection is kept in the shared pool, where session clients pick it up. The response itself
+     * and any failure are ignored.
+     *
+     * @param onComplete Invoked on a dispatcher thread once the warm-up request has finished
+     * @return false when [url] is not a valid HTTP URL or a warm-up of the same host is still running
+     */
+    fun warmUp(url: String, onComplete: (() -> Unit)? = null): Boolean {
+        val httpUrl = url.toHttpUrlOrNull() ?: return false
+        val origin = "${httpUrl.scheme}://${httpUrl.host}:${httpUrl.port}"
+
+        if (!warmingUpHosts.add(origin)) {
+            return false
+        }
+
+        val request = Request.Builder().url(httpUrl).head().build()
+
+        client.newCall(request).enqueue(object : Callback {
+            override fun onResponse(call: Call, response: Response) {
+                response.close()
+                finish()
+            }
+
+            override fun onFailure(call: Call, e: IOException) {
+                finish()
+            }
+
+            private fun finish() {
+                warmingUpHosts.remove(origin)
+                onComplete?.invoke()
+            }
+        })
+
+        return true
+    }
+
+    private fun getSystemTrustManager(): X509TrustManager {
+        val trustManagerFactory = TrustManagerFactory.getInstance(
+            TrustManagerFactory.getDefaultAlgorithm()
+        )
+        trustManagerFactory.init(null as KeyStore?)
+        val trustManagers = trustManagerFactory.trustManagers
+        require(trustManagers.size == 1 && trustManagers[0] is X509TrustManager) {
+            "Unexpected default trust managers: ${trustManagers.contentToString()}"
+        }
+
+        return trustManagers[0] as X509TrustManager
+    }
+}
@@ -16,11 +16,11 @@ import com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationExce
 import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsRequest
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationRequest
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.publicKey.PublicKeyResponseDto
 
 /**
@@ -48,7 +48,7 @@ internal interface IApiClient {
         customerId: String,
         productId: String,
         params: Map<String, String>?
-    ): PaymentProductDto
+    ): PaymentProduct
 
     /**
      * Retrieves payment product networks.
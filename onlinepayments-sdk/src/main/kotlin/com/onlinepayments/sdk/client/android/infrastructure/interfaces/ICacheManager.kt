@@ -11,24 +11,84 @@
 package com.onlinepayments.sdk.client.android.infrastructure.interfaces
 
 import com.onlinepayments.sdk.client.android.domain.PaymentContext
+import com.onlinepayments.sdk.client.android.domain.cache.CacheMetricsSnapshot
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.facade.listeners.CacheMetricsListener
+import com.onlinepayments.sdk.client.android.infrastructure.cache.CacheKey
 
 internal interface ICacheManager {
+    /**
+     * Registers a listener that is invoked after every load that fills the cache. Listeners are held weakly, so a
+     * cache shared between sessions does not keep the listeners of finished sessions alive.
+     */
+    fun addMetricsListener(listener: CacheMetricsListener)
+
+    fun removeMetricsListener(listener: CacheMetricsListener)
+
     fun createCacheKeyFromContext(
-        prefix: String,
+        endpoint: ApiEndpoint,
         context: PaymentContext,
         suffix: String? = null
-    ): String
+    ): CacheKey
 
-    fun hasCache(key: String): Boolean
+    fun hasCache(key: CacheKey): Boolean
 
-    fun <T> get(key: String): T?
+    fun <T> get(key: CacheKey): T?
 
-    fun <T> set(key: String, value: T)
+    fun <T> set(key: CacheKey, value: T)
 
     fun clear()
 
+    /**
+     * Releases memory for an `onTrimMemory` level of [android.content.ComponentCallbacks2].
+     */
+    fun trimMemory(level: Int)
+
+    /**
+     * Returns the cached value for [key], or fetches and caches it.
+     *
+     * @param allowStale Whether a recently expired value may be returned while it is refreshed in the background
+     */
     suspend fun <T> getOrFetch(
-        key: String,
+        key: CacheKey,
+        allowStale: Boolean = false,
         fetch: suspend () -> T
     ): T
+
+    /**
+     * Returns the cached value for [key], or loads it through the persistent cache tier and caches it.
+     *
+     * On a miss of the persistent tier, the response of [fetch] is persisted. On a hit, the persisted response is
+     * used right away and a fresh one is fetched in the background, which replaces the persisted response and the
+     * cached value. Behaves like [getOrFetch] when no persistent tier is configured.
+     *
+     * With [networkFirst], [fetch] is called first and the persisted response is only used when it fails with
+     * anything but an error response of the client. Such a fallback is not cached.
+     *
+     * @param type Type of the persisted response
+     * @param allowStale Whether a recently expired value may be returned while it is refreshed in the background
+     * @param networkFirst Whether the persistent tier is only a fallback, for responses with parts bound to the
+     *   client session that are not persisted
+     * @param persistable Returns the part of a response that may be written to the persistent tier
+     * @param transform Creates the cached value from a fetched or persisted response
+     */
+    suspend fun <R : Any, T> getOrFetchPersistent(
+        key: CacheKey,
+        type: Class<R>,
+        allowStale: Boolean = false,
+        networkFirst: Boolean = false,
+        persistable: (R) -> R = { it },
+        fetch: suspend () -> R,
+        transform: suspend (R) -> T
+    ): T
+
+    /**
+     * Counts a retried network call of [endpoint] in its statistics.
+     */
+    fun recordRetry(endpoint: ApiEndpoint)
+
+    /**
+     * Returns the hit, miss, expiration, eviction, in-flight wait, retry and load time statistics per endpoint.
+     */
+    fun metricsSnapshot(): CacheMetricsSnapshot
 }
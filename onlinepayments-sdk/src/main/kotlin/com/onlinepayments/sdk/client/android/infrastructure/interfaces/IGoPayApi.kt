@@ -14,14 +14,15 @@ import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyC
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionResponse
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsRequest
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationRequest
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.publicKey.PublicKeyResponseDto
 import retrofit2.http.Body
 import retrofit2.http.GET
+import retrofit2.http.Headers
 import retrofit2.http.POST
 import retrofit2.http.Path
 import retrofit2.http.Query
@@ -33,28 +34,31 @@ import java.util.Date
  * Internal to infrastructure layer - not exposed to services.
  */
 internal interface IGoPayApi {
+    // Product lists and details include the accounts on file of the session, so they must never be stored
+    @Headers("Cache-Control: no-store")
     @GET("{customerId}/products")
     suspend fun getBasicPaymentProducts(
         @Path("customerId") customerId: String,
         @QueryMap params: Map<String, String>,
         @Query("hide") hide: String = "fields",
-        @Query("cacheBuster") cacheBuster: Long = Date().time
+        @Query("cacheBuster") cacheBuster: Long? = Date().time
     ): BasicPaymentProductsDto
 
+    @Headers("Cache-Control: no-store")
     @GET("{customerId}/products/{productId}")
     suspend fun getPaymentProduct(
         @Path("customerId") customerId: String,
         @Path("productId") productId: String,
         @QueryMap params: Map<String, String>?,
-        @Query("cacheBuster") cacheBuster: Long = Date().time
-    ): PaymentProductDto
+        @Query("cacheBuster") cacheBuster: Long? = Date().time
+    ): PaymentProduct
 
     @GET("{customerId}/products/{productId}/networks")
     suspend fun getPaymentProductNetworks(
         @Path("customerId") customerId: String,
         @Path("productId") productId: String,
         @QueryMap params: Map<String, String>?,
-        @Query("cacheBuster") cacheBuster: Long = Date().time
+        @Query("cacheBuster") cacheBuster: Long? = Date().time
     ): PaymentProductNetworksResponse
 
     @POST("{customerId}/services/getIINdetails")
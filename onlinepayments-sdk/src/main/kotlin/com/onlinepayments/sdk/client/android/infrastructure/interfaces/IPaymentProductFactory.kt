@@ -12,14 +12,10 @@ package com.onlinepayments.sdk.client.android.infrastructure.interfaces
 
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProducts
-import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductDto
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
 
 internal interface IPaymentProductFactory {
-    fun createPaymentProduct(dto: PaymentProductDto): PaymentProduct
-
     fun createBasicPaymentProduct(dto: BasicPaymentProductDto): BasicPaymentProduct
 
     fun createBasicPaymentProducts(dto: BasicPaymentProductsDto): BasicPaymentProducts
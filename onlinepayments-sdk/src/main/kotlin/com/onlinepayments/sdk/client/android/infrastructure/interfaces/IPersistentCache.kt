@@ -0,0 +1,23 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.interfaces
+
+/**
+ * Cache tier that outlives the SDK instance, e.g. on disk.
+ * Implementations perform blocking I/O and must be called off the main thread.
+ */
+internal interface IPersistentCache {
+    fun <T : Any> read(key: String, type: Class<T>): T?
+
+    fun write(key: String, value: Any)
+
+    fun clear()
+}
@@ -10,6 +10,7 @@
 
 package com.onlinepayments.sdk.client.android.infrastructure.interfaces
 
+import com.onlinepayments.sdk.client.android.services.interfaces.ICardResolutionService
 import com.onlinepayments.sdk.client.android.services.interfaces.IClientService
 import com.onlinepayments.sdk.client.android.services.interfaces.IEncryptionService
 import com.onlinepayments.sdk.client.android.services.interfaces.IPaymentProductService
@@ -19,5 +20,22 @@ internal interface IServiceFactory {
     val encryptionService: IEncryptionService
     val paymentProductService: IPaymentProductService
     val cacheManager: ICacheManager
+
+    /**
+     * Cache for payment product metadata that is not bound to a client session, like product networks; shared
+     * between SDK instances of the same merchant when
+     * [com.onlinepayments.sdk.client.android.domain.configuration.CacheConfiguration.shareAcrossSessions]
+     * is enabled, otherwise the same instance as [cacheManager]. Responses that include accounts on file are kept
+     * in [cacheManager].
+     */
+    val productCacheManager: ICacheManager
     val clientService: IClientService
+    val cardResolutionService: ICardResolutionService
+
+    /**
+     * Sets up the connection to the client API in the background.
+     *
+     * @return false when a warm-up of the same host is already running
+     */
+    fun warmUp(): Boolean
 }
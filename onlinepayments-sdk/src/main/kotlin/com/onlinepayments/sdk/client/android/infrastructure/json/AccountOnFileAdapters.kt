@@ -0,0 +1,233 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.json
+
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonWriter
+import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFile
+import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFileAttribute
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileAttributeDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileDisplayHintsDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileLabelTemplateDto
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.listProperty
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextIntOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextListOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextStringOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.property
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.readObject
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.requireProperty
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.writeObject
+import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory
+
+/**
+ * Reads an account on file of a payment product straight into the domain model.
+ *
+ * The label is formatted from the alias attribute while reading. The formatted label is written back as `label`,
+ * so that a cached product does not need the label templates again.
+ */
+internal object AccountOnFileAdapter : TypeAdapter<AccountOnFile>() {
+    override fun read(reader: JsonReader): AccountOnFile {
+        var id: String? = null
+        var paymentProductId = 0
+        var label: String? = null
+        var displayHints: AccountOnFileDisplayHintsDto? = null
+        var attributes: List<AccountOnFileAttribute>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "id" -> id = reader.nextStringOrNull()
+                "paymentProductId" -> paymentProductId = reader.nextIntOrNull() ?: 0
+                "label" -> label = reader.nextStringOrNull()
+                "displayHints" -> displayHints = reader.nextOrNull(AccountOnFileDisplayHintsDtoAdapter)
+                "attributes" -> attributes = reader.nextListOrNull { nextOrNull(AccountOnFileAttributeAdapter) }
+                else -> reader.skipValue()
+            }
+        }
+
+        val accountAttributes = attributes ?: emptyList()
+
+        return AccountOnFile(
+            id = requireProperty(id, "id", "AccountOnFile"),
+            paymentProductId = paymentProductId,
+            attributes = accountAttributes,
+            attributeByKey = accountAttributes.associateBy { it.key },
+            label = label ?: PaymentProductFactory.formatAccountOnFileLabel(
+                alias = accountAttributes.find { it.key == "alias" }?.value,
+                mask = displayHints?.labelTemplate?.find { it?.attributeKey == "alias" }?.mask
+            )
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: AccountOnFile) {
+        writer.writeObject {
+            property("id", value.id)
+            property("paymentProductId", value.paymentProductId)
+            property("label", value.label)
+            listProperty("attributes", value.attributes) { AccountOnFileAttributeAdapter.write(this, it) }
+        }
+    }
+}
+
+internal object AccountOnFileAttributeAdapter : TypeAdapter<AccountOnFileAttribute>() {
+    private val statusAdapter = EnumAdapter(
+        AccountOnFileAttribute.Status.entries.associateWith { it.name }
+    )
+
+    override fun read(reader: JsonReader): AccountOnFileAttribute {
+        var key: String? = null
+        var value: String? = null
+        var status: AccountOnFileAttribute.Status? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "key" -> key = reader.nextStringOrNull()
+                "value" -> value = reader.nextStringOrNull()
+                "status" -> status = statusAdapter.read(reader)
+                else -> reader.skipValue()
+            }
+        }
+
+        return AccountOnFileAttribute(
+            key = requireProperty(key, "key", "AccountOnFileAttribute"),
+            value = requireProperty(value, "value", "AccountOnFileAttribute"),
+            status = requireProperty(status, "status", "AccountOnFileAttribute")
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: AccountOnFileAttribute) {
+        writer.writeObject {
+            property("key", value.key)
+            property("value", value.value)
+            property("status", value.status, statusAdapter)
+        }
+    }
+}
+
+internal object AccountOnFileDtoAdapter : TypeAdapter<AccountOnFileDto>() {
+    override fun read(reader: JsonReader): AccountOnFileDto {
+        var id: String? = null
+        var paymentProductId = 0
+        var displayHints: AccountOnFileDisplayHintsDto? = null
+        var attributes: List<AccountOnFileAttributeDto>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "id" -> id = reader.nextStringOrNull()
+                "paymentProductId" -> paymentProductId = reader.nextIntOrNull() ?: 0
+                "displayHints" -> displayHints = reader.nextOrNull(AccountOnFileDisplayHintsDtoAdapter)
+                "attributes" -> attributes = reader.nextListOrNull { nextOrNull(AccountOnFileAttributeDtoAdapter) }
+                else -> reader.skipValue()
+            }
+        }
+
+        return AccountOnFileDto(
+            id = requireProperty(id, "id", "AccountOnFile"),
+            paymentProductId = paymentProductId,
+            displayHints = displayHints ?: AccountOnFileDisplayHintsDto(),
+            attributes = attributes ?: emptyList()
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: AccountOnFileDto) {
+        writer.writeObject {
+            property("id", value.id)
+            property("paymentProductId", value.paymentProductId)
+            property("displayHints", value.displayHints, AccountOnFileDisplayHintsDtoAdapter)
+            listProperty("attributes", value.attributes) { AccountOnFileAttributeDtoAdapter.write(this, it) }
+        }
+    }
+}
+
+internal object AccountOnFileDisplayHintsDtoAdapter : TypeAdapter<AccountOnFileDisplayHintsDto>() {
+    override fun read(reader: JsonReader): AccountOnFileDisplayHintsDto {
+        var labelTemplate: List<AccountOnFileLabelTemplateDto?>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "labelTemplate" -> labelTemplate = reader.nextListOrNull<AccountOnFileLabelTemplateDto?> {
+                    nextOrNull(AccountOnFileLabelTemplateDtoAdapter)
+                }
+
+                else -> reader.skipValue()
+            }
+        }
+
+        return labelTemplate?.let { AccountOnFileDisplayHintsDto(it) } ?: AccountOnFileDisplayHintsDto()
+    }
+
+    override fun write(writer: JsonWriter, value: AccountOnFileDisplayHintsDto) {
+        writer.writeObject {
+            listProperty("labelTemplate", value.labelTemplate) { AccountOnFileLabelTemplateDtoAdapter.write(this, it) }
+        }
+    }
+}
+
+internal object AccountOnFileLabelTemplateDtoAdapter : TypeAdapter<AccountOnFileLabelTemplateDto>() {
+    override fun read(reader: JsonReader): AccountOnFileLabelTemplateDto {
+        var attributeKey: String? = null
+        var mask: String? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "attributeKey" -> attributeKey = reader.nextStringOrNull()
+                "mask" -> mask = reader.nextStringOrNull()
+                else -> reader.skipValue()
+            }
+        }
+
+        return AccountOnFileLabelTemplateDto(attributeKey, mask)
+    }
+
+    override fun write(writer: JsonWriter, value: AccountOnFileLabelTemplateDto) {
+        writer.writeObject {
+            property("attributeKey", value.attributeKey)
+            property("mask", value.mask)
+        }
+    }
+}
+
+internal object AccountOnFileAttributeDtoAdapter : TypeAdapter<AccountOnFileAttributeDto>() {
+    private val statusAdapter = EnumAdapter(
+        AccountOnFileAttributeDto.Status.entries.associateWith { it.name }
+    )
+
+    override fun read(reader: JsonReader): AccountOnFileAttributeDto {
+        var key: String? = null
+        var value: String? = null
+        var status: AccountOnFileAttributeDto.Status? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "key" -> key = reader.nextStringOrNull()
+                "value" -> value = reader.nextStringOrNull()
+                "status" -> status = statusAdapter.read(reader)
+                else -> reader.skipValue()
+            }
+        }
+
+        return AccountOnFileAttributeDto(
+            key = requireProperty(key, "key", "AccountOnFileAttribute"),
+            value = requireProperty(value, "value", "AccountOnFileAttribute"),
+            status = requireProperty(status, "status", "AccountOnFileAttribute")
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: AccountOnFileAttributeDto) {
+        writer.writeObject {
+            property("key", value.key)
+            property("value", value.value)
+            property("status", value.status, statusAdapter)
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.json
+
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.TypeAdapter
+import com.onlinepayments.sdk.client.android.domain.AmountOfMoney
+import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFile
+import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFileAttribute
+import com.onlinepayments.sdk.client.android.domain.exceptions.ApiError
+import com.onlinepayments.sdk.client.android.domain.exceptions.ApiErrorItem
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetail
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.DataRestrictions
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductField
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.ProductFieldDisplayHints
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.specificData.PaymentProduct302SpecificData
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.specificData.PaymentProduct320SpecificData
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.Surcharge
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeRate
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileAttributeDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileDisplayHintsDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileLabelTemplateDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.displayHints.PaymentProductDisplayHintsDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.publicKey.PublicKeyResponseDto
+
+/**
+ * The [Gson] instance for Client API JSON.
+ *
+ * The API models and response types are read and written by hand-written streaming adapters, which create no
+ * objects through reflection and allow R8 to shrink these classes. Payment product details are read straight into
+ * the domain model. Currency conversion responses and the request bodies are still handled by Gson's reflective
+ * adapters; they are small and covered by the consumer keep rules.
+ */
+internal object ApiJson {
+    val gson: Gson = GsonBuilder()
+        .register(PublicKeyResponseDto::class.java, PublicKeyResponseDtoAdapter)
+        .register(BasicPaymentProductsDto::class.java, BasicPaymentProductsDtoAdapter)
+        .register(BasicPaymentProductDto::class.java, BasicPaymentProductDtoAdapter)
+        .register(PaymentProduct::class.java, PaymentProductAdapter)
+        .register(PaymentProductDisplayHintsDto::class.java, PaymentProductDisplayHintsDtoAdapter)
+        .register(PaymentProductField::class.java, PaymentProductFieldAdapter)
+        .register(ProductFieldDisplayHints::class.java, ProductFieldDisplayHintsAdapter)
+        .register(DataRestrictions::class.java, DataRestrictionsAdapter)
+        .register(AccountOnFile::class.java, AccountOnFileAdapter)
+        .register(AccountOnFileAttribute::class.java, AccountOnFileAttributeAdapter)
+        .register(AccountOnFileDto::class.java, AccountOnFileDtoAdapter)
+        .register(AccountOnFileDisplayHintsDto::class.java, AccountOnFileDisplayHintsDtoAdapter)
+        .register(AccountOnFileLabelTemplateDto::class.java, AccountOnFileLabelTemplateDtoAdapter)
+        .register(AccountOnFileAttributeDto::class.java, AccountOnFileAttributeDtoAdapter)
+        .register(PaymentProduct302SpecificData::class.java, PaymentProduct302SpecificDataAdapter)
+        .register(PaymentProduct320SpecificData::class.java, PaymentProduct320SpecificDataAdapter)
+        .register(PaymentProductNetworksResponse::class.java, PaymentProductNetworksResponseAdapter)
+        .register(IinDetailsResponse::class.java, IinDetailsResponseAdapter)
+        .register(IinDetail::class.java, IinDetailAdapter)
+        .register(SurchargeCalculationResponse::class.java, SurchargeCalculationResponseAdapter)
+        .register(Surcharge::class.java, SurchargeAdapter)
+        .register(SurchargeRate::class.java, SurchargeRateAdapter)
+        .register(AmountOfMoney::class.java, AmountOfMoneyAdapter)
+        .register(ApiError::class.java, ApiErrorAdapter)
+        .register(ApiErrorItem::class.java, ApiErrorItemAdapter)
+        .create()
+
+    private fun <T : Any> GsonBuilder.register(type: Class<T>, adapter: TypeAdapter<T>): GsonBuilder {
+        return registerTypeAdapter(type, adapter.nullSafe())
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.json
+
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonWriter
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextStringOrNull
+
+/**
+ * Maps the constants of an enum to their names in the Client API JSON. Unknown names are read as null.
+ */
+internal class EnumAdapter<E : Enum<E>>(private val names: Map<E, String>) : TypeAdapter<E>() {
+    private val constants = names.entries.associate { (constant, name) -> name to constant }
+
+    override fun read(reader: JsonReader): E? {
+        return reader.nextStringOrNull()?.let { constants[it] }
+    }
+
+    override fun write(writer: JsonWriter, value: E?) {
+        if (value == null) {
+            writer.nullValue()
+        } else {
+            writer.value(names.getValue(value))
+        }
+    }
+}
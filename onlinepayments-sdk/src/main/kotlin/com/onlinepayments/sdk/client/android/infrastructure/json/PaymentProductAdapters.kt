@@ -0,0 +1,501 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.json
+
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.JsonWriter
+import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFile
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.DataRestrictions
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductField
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductFieldType
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PreferredInputType
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.ProductFieldDisplayHints
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.specificData.PaymentProduct302SpecificData
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.specificData.PaymentProduct320SpecificData
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRule
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.displayHints.FormElementDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.displayHints.PaymentProductDisplayHintsDto
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.listProperty
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextBooleanOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextIntOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextListOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextStringOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.property
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.readObject
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.readObjectOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.requireProperty
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.writeObject
+
+internal object BasicPaymentProductsDtoAdapter : TypeAdapter<BasicPaymentProductsDto>() {
+    override fun read(reader: JsonReader): BasicPaymentProductsDto {
+        var paymentProducts: MutableList<BasicPaymentProductDto>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "paymentProducts" -> paymentProducts = reader.nextListOrNull {
+                    nextOrNull(BasicPaymentProductDtoAdapter)
+                }
+
+                else -> reader.skipValue()
+            }
+        }
+
+        return BasicPaymentProductsDto(paymentProducts)
+    }
+
+    override fun write(writer: JsonWriter, value: BasicPaymentProductsDto) {
+        writer.writeObject {
+            listProperty("paymentProducts", value.paymentProducts) { BasicPaymentProductDtoAdapter.write(this, it) }
+        }
+    }
+}
+
+internal object BasicPaymentProductDtoAdapter : TypeAdapter<BasicPaymentProductDto>() {
+    override fun read(reader: JsonReader): BasicPaymentProductDto {
+        val dto = BasicPaymentProductDto()
+
+        reader.readObject { name ->
+            if (!readBasicProperty(reader, name, dto)) {
+                reader.skipValue()
+            }
+        }
+
+        return dto
+    }
+
+    override fun write(writer: JsonWriter, value: BasicPaymentProductDto) {
+        writer.writeObject {
+            writeBasicProperties(this, value)
+        }
+    }
+
+    /**
+     * Reads the value of [name] into [dto] when it is a property of a basic payment product.
+     *
+     * @return false if [name] is not a property of a basic payment product and its value was not consumed
+     */
+    fun readBasicProperty(reader: JsonReader, name: String, dto: BasicPaymentProductDto): Boolean {
+        when (name) {
+            "id" -> dto.id = reader.nextIntOrNull()
+            "paymentMethod" -> dto.paymentMethod = reader.nextStringOrNull()
+            "paymentProductGroup" -> dto.paymentProductGroup = reader.nextStringOrNull()
+            "allowsRecurring" -> dto.allowsRecurring = reader.nextBooleanOrNull()
+            "allowsTokenization" -> dto.allowsTokenization = reader.nextBooleanOrNull()
+            "usesRedirectionTo3rdParty" -> dto.usesRedirectionTo3rdParty = reader.nextBooleanOrNull()
+            "displayHints" -> dto.displayHints = reader.nextOrNull(PaymentProductDisplayHintsDtoAdapter)
+            "accountsOnFile" -> dto.accountsOnFile = reader.nextListOrNull { nextOrNull(AccountOnFileDtoAdapter) }
+            "paymentProduct302SpecificData" ->
+                dto.paymentProduct302SpecificData = reader.nextOrNull(PaymentProduct302SpecificDataAdapter)
+
+            "paymentProduct320SpecificData" ->
+                dto.paymentProduct320SpecificData = reader.nextOrNull(PaymentProduct320SpecificDataAdapter)
+
+            else -> return false
+        }
+
+        return true
+    }
+
+    fun writeBasicProperties(writer: JsonWriter, value: BasicPaymentProductDto) {
+        with(writer) {
+            property("id", value.id)
+            property("paymentMethod", value.paymentMethod)
+            property("paymentProductGroup", value.paymentProductGroup)
+            property("allowsRecurring", value.allowsRecurring)
+            property("allowsTokenization", value.allowsTokenization)
+            property("usesRedirectionTo3rdParty", value.usesRedirectionTo3rdParty)
+            property("displayHints", value.displayHints, PaymentProductDisplayHintsDtoAdapter)
+            listProperty("accountsOnFile", value.accountsOnFile) { AccountOnFileDtoAdapter.write(this, it) }
+            property(
+                "paymentProduct302SpecificData",
+                value.paymentProduct302SpecificData,
+                PaymentProduct302SpecificDataAdapter
+            )
+            property(
+                "paymentProduct320SpecificData",
+                value.paymentProduct320SpecificData,
+                PaymentProduct320SpecificDataAdapter
+            )
+        }
+    }
+}
+
+internal object PaymentProductDisplayHintsDtoAdapter : TypeAdapter<PaymentProductDisplayHintsDto>() {
+    override fun read(reader: JsonReader): PaymentProductDisplayHintsDto {
+        var displayOrder: Int? = null
+        var label: String? = null
+        var logo: String? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "displayOrder" -> displayOrder = reader.nextIntOrNull()
+                "label" -> label = reader.nextStringOrNull()
+                "logo" -> logo = reader.nextStringOrNull()
+                else -> reader.skipValue()
+            }
+        }
+
+        return PaymentProductDisplayHintsDto(displayOrder, label, logo)
+    }
+
+    override fun write(writer: JsonWriter, value: PaymentProductDisplayHintsDto) {
+        writer.writeObject {
+            property("displayOrder", value.displayOrder)
+            property("label", value.label)
+            property("logo", value.logo)
+        }
+    }
+}
+
+/**
+ * Reads the details of a payment product straight into the domain model, without an intermediate DTO.
+ *
+ * The fields are put in display order while they are read; fields with the same display order keep the order in
+ * which the API returned them.
+ */
+internal object PaymentProductAdapter : TypeAdapter<PaymentProduct>() {
+    override fun read(reader: JsonReader): PaymentProduct {
+        val basic = BasicPaymentProductDto()
+        var accountsOnFile: List<AccountOnFile>? = null
+        val fields = ArrayList<PaymentProductField>()
+
+        reader.readObject { name ->
+            when {
+                name == "fields" -> reader.readFields(fields)
+                name == "accountsOnFile" ->
+                    accountsOnFile = reader.nextListOrNull { nextOrNull(AccountOnFileAdapter) }
+
+                !BasicPaymentProductDtoAdapter.readBasicProperty(reader, name, basic) -> reader.skipValue()
+            }
+        }
+
+        return PaymentProduct(
+            id = basic.id,
+            paymentMethod = basic.paymentMethod,
+            paymentProductGroup = basic.paymentProductGroup,
+            allowsRecurring = basic.allowsRecurring ?: false,
+            allowsTokenization = basic.allowsTokenization ?: false,
+            usesRedirectionTo3rdParty = basic.usesRedirectionTo3rdParty ?: false,
+            paymentProduct302SpecificData = basic.paymentProduct302SpecificData,
+            paymentProduct320SpecificData = basic.paymentProduct320SpecificData,
+            logo = basic.displayHints?.logo,
+            label = basic.displayHints?.label,
+            displayOrder = basic.displayHints?.displayOrder,
+            accountsOnFile = accountsOnFile ?: emptyList(),
+            fields = fields
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: PaymentProduct) {
+        writer.writeObject {
+            property("id", value.id)
+            property("paymentMethod", value.paymentMethod)
+            property("paymentProductGroup", value.paymentProductGroup)
+            property("allowsRecurring", value.allowsRecurring)
+            property("allowsTokenization", value.allowsTokenization)
+            property("usesRedirectionTo3rdParty", value.usesRedirectionTo3rdParty)
+            name("displayHints").writeObject {
+                property("displayOrder", value.displayOrder)
+                property("label", value.label)
+                property("logo", value.logo)
+            }
+            listProperty("accountsOnFile", value.accountsOnFile) { AccountOnFileAdapter.write(this, it) }
+            property(
+                "paymentProduct302SpecificData",
+                value.paymentProduct302SpecificData,
+                PaymentProduct302SpecificDataAdapter
+            )
+            property(
+                "paymentProduct320SpecificData",
+                value.paymentProduct320SpecificData,
+                PaymentProduct320SpecificDataAdapter
+            )
+            listProperty("fields", value.fields) { PaymentProductFieldAdapter.write(this, it) }
+        }
+    }
+
+    /**
+     * Inserts each field of the array behind the last field with a display order that is not higher, so that
+     * [fields] is sorted when the array ends. Products have only a handful of fields, which makes this cheaper than
+     * collecting and sorting them afterwards.
+     */
+    private fun JsonReader.readFields(fields: MutableList<PaymentProductField>) {
+        if (peek() == JsonToken.NULL) {
+            nextNull()
+            return
+        }
+
+        beginArray()
+        while (hasNext()) {
+            val field = nextOrNull(PaymentProductFieldAdapter) ?: continue
+            var index = fields.size
+            while (index > 0 && fields[index - 1].displayHints.displayOrder > field.displayHints.displayOrder) {
+                index--
+            }
+            fields.add(index, field)
+        }
+        endArray()
+    }
+}
+
+internal object PaymentProductFieldAdapter : TypeAdapter<PaymentProductField>() {
+    private val typeAdapter = EnumAdapter(
+        mapOf(
+            PaymentProductFieldType.STRING to "string",
+            PaymentProductFieldType.INTEGER to "integer",
+            PaymentProductFieldType.EXPIRYDATE to "expirydate",
+            PaymentProductFieldType.NUMERICSTRING to "numericstring",
+            PaymentProductFieldType.BOOLEAN to "boolean",
+            PaymentProductFieldType.DATE to "date"
+        )
+    )
+
+    override fun read(reader: JsonReader): PaymentProductField {
+        var id: String? = null
+        var type: PaymentProductFieldType? = null
+        var displayHints: ProductFieldDisplayHints? = null
+        var dataRestrictions: DataRestrictions? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "id" -> id = reader.nextStringOrNull()
+                "type" -> type = typeAdapter.read(reader)
+                "displayHints" -> displayHints = reader.nextOrNull(ProductFieldDisplayHintsAdapter)
+                "dataRestrictions" -> dataRestrictions = reader.nextOrNull(DataRestrictionsAdapter)
+                else -> reader.skipValue()
+            }
+        }
+
+        return PaymentProductField(
+            id = requireProperty(id, "id", "PaymentProductField"),
+            type = type,
+            displayHints = displayHints ?: ProductFieldDisplayHintsAdapter.empty(),
+            dataRestrictions = dataRestrictions ?: DataRestrictions(required = false, validationRules = emptyList())
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: PaymentProductField) {
+        writer.writeObject {
+            property("id", value.id)
+            property("type", value.type, typeAdapter)
+            property("displayHints", value.displayHints, ProductFieldDisplayHintsAdapter)
+            property("dataRestrictions", value.dataRestrictions, DataRestrictionsAdapter)
+        }
+    }
+}
+
+/**
+ * Reads the display hints of a field, including the label of its tooltip and the type of its form element, which
+ * the domain model keeps as plain properties.
+ */
+internal object ProductFieldDisplayHintsAdapter : TypeAdapter<ProductFieldDisplayHints>() {
+    private val preferredInputTypeAdapter = EnumAdapter(
+        mapOf(
+            PreferredInputType.INTEGER_KEYBOARD to "IntegerKeyboard",
+            PreferredInputType.STRING_KEYBOARD to "StringKeyboard",
+            PreferredInputType.PHONE_NUMBER_KEYBOARD to "PhoneNumberKeyboard",
+            PreferredInputType.EMAIL_ADDRESS_KEYBOARD to "EmailAddressKeyboard",
+            PreferredInputType.DATE_PICKER to "DateKeyboard"
+        )
+    )
+
+    private val formElementTypeAdapter = EnumAdapter(FormElementDto.Type.entries.associateWith { it.name.lowercase() })
+
+    override fun read(reader: JsonReader): ProductFieldDisplayHints {
+        var alwaysShow: Boolean? = null
+        var obfuscate: Boolean? = null
+        var displayOrder: Int? = null
+        var label: String? = null
+        var placeholderLabel: String? = null
+        var mask: String? = null
+        var preferredInputType: PreferredInputType? = null
+        var tooltipLabel: String? = null
+        var formElementType: FormElementDto.Type? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "alwaysShow" -> alwaysShow = reader.nextBooleanOrNull()
+                "obfuscate" -> obfuscate = reader.nextBooleanOrNull()
+                "displayOrder" -> displayOrder = reader.nextIntOrNull()
+                "label" -> label = reader.nextStringOrNull()
+                "placeholderLabel" -> placeholderLabel = reader.nextStringOrNull()
+                "mask" -> mask = reader.nextStringOrNull()
+                "preferredInputType" -> preferredInputType = preferredInputTypeAdapter.read(reader)
+                "tooltip" -> reader.readObjectOrNull { property ->
+                    when (property) {
+                        "label" -> tooltipLabel = reader.nextStringOrNull()
+                        else -> reader.skipValue()
+                    }
+                }
+
+                "formElement" -> reader.readObjectOrNull { property ->
+                    when (property) {
+                        "type" -> formElementType = formElementTypeAdapter.read(reader)
+                        else -> reader.skipValue()
+                    }
+                }
+
+                else -> reader.skipValue()
+            }
+        }
+
+        return ProductFieldDisplayHints(
+            alwaysShow = alwaysShow,
+            obfuscate = obfuscate,
+            displayOrder = displayOrder ?: Int.MAX_VALUE,
+            label = label,
+            placeholderLabel = placeholderLabel,
+            mask = mask,
+            preferredInputType = preferredInputType,
+            tooltipLabel = tooltipLabel,
+            formElementType = formElementType?.name
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: ProductFieldDisplayHints) {
+        writer.writeObject {
+            property("alwaysShow", value.alwaysShow)
+            property("obfuscate", value.obfuscate)
+            property("displayOrder", value.displayOrder)
+            property("label", value.label)
+            property("placeholderLabel", value.placeholderLabel)
+            property("mask", value.mask)
+            property("preferredInputType", value.preferredInputType, preferredInputTypeAdapter)
+            value.tooltipLabel?.let { tooltipLabel ->
+                name("tooltip").writeObject {
+                    property("label", tooltipLabel)
+                }
+            }
+            value.formElementType?.let { formElementType ->
+                name("formElement").writeObject {
+                    property("type", formElementType.lowercase())
+                }
+            }
+        }
+    }
+
+    /**
+     * The display hints of a field that has none in the JSON.
+     */
+    fun empty(): ProductFieldDisplayHints {
+        return ProductFieldDisplayHints(
+            alwaysShow = null,
+            obfuscate = null,
+            displayOrder = Int.MAX_VALUE,
+            label = null,
+            placeholderLabel = null,
+            mask = null,
+            preferredInputType = null,
+            tooltipLabel = null,
+            formElementType = null
+        )
+    }
+}
+
+internal object DataRestrictionsAdapter : TypeAdapter<DataRestrictions>() {
+    override fun read(reader: JsonReader): DataRestrictions {
+        var isRequired: Boolean? = null
+        var validationRules: List<ValidationRule>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "isRequired" -> isRequired = reader.nextBooleanOrNull()
+                "validators" -> validationRules = reader.nextOrNull(ValidationRulesAdapter)
+                else -> reader.skipValue()
+            }
+        }
+
+        return DataRestrictions(
+            required = isRequired ?: false,
+            validationRules = validationRules ?: emptyList()
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: DataRestrictions) {
+        writer.writeObject {
+            property("isRequired", value.isRequired())
+            property("validators", value.validationRules, ValidationRulesAdapter)
+        }
+    }
+}
+
+internal object PaymentProduct302SpecificDataAdapter : TypeAdapter<PaymentProduct302SpecificData>() {
+    override fun read(reader: JsonReader): PaymentProduct302SpecificData {
+        var networks: MutableList<String?>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "networks" -> networks = reader.nextListOrNull<String?> { nextStringOrNull() }
+                else -> reader.skipValue()
+            }
+        }
+
+        return PaymentProduct302SpecificData(networks)
+    }
+
+    override fun write(writer: JsonWriter, value: PaymentProduct302SpecificData) {
+        writer.writeObject {
+            listProperty("networks", value.networks) { this.value(it) }
+        }
+    }
+}
+
+internal object PaymentProduct320SpecificDataAdapter : TypeAdapter<PaymentProduct320SpecificData>() {
+    override fun read(reader: JsonReader): PaymentProduct320SpecificData {
+        var gateway: String? = null
+        var networks: MutableList<String?>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "gateway" -> gateway = reader.nextStringOrNull()
+                "networks" -> networks = reader.nextListOrNull<String?> { nextStringOrNull() }
+                else -> reader.skipValue()
+            }
+        }
+
+        return PaymentProduct320SpecificData(gateway, networks)
+    }
+
+    override fun write(writer: JsonWriter, value: PaymentProduct320SpecificData) {
+        writer.writeObject {
+            property("gateway", value.gateway)
+            listProperty("networks", value.networks) { this.value(it) }
+        }
+    }
+}
+
+internal object PaymentProductNetworksResponseAdapter : TypeAdapter<PaymentProductNetworksResponse>() {
+    override fun read(reader: JsonReader): PaymentProductNetworksResponse {
+        var networks: ArrayList<String?>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "networks" -> networks = reader.nextListOrNull<String?> { nextStringOrNull() }
+                else -> reader.skipValue()
+            }
+        }
+
+        return PaymentProductNetworksResponse(networks)
+    }
+
+    override fun write(writer: JsonWriter, value: PaymentProductNetworksResponse) {
+        writer.writeObject {
+            listProperty("networks", value.networks) { this.value(it) }
+        }
+    }
+}
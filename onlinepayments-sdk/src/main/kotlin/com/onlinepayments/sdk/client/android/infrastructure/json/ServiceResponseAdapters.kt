@@ -0,0 +1,323 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.json
+
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonWriter
+import com.onlinepayments.sdk.client.android.domain.AmountOfMoney
+import com.onlinepayments.sdk.client.android.domain.exceptions.ApiError
+import com.onlinepayments.sdk.client.android.domain.exceptions.ApiErrorItem
+import com.onlinepayments.sdk.client.android.domain.iin.CardType
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetail
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailStatus
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.Surcharge
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeRate
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeResult
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.publicKey.PublicKeyResponseDto
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.listProperty
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextBooleanOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextDoubleOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextIntOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextListOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextLongOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextStringOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.property
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.readObject
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.requireProperty
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.writeObject
+
+internal object PublicKeyResponseDtoAdapter : TypeAdapter<PublicKeyResponseDto>() {
+    override fun read(reader: JsonReader): PublicKeyResponseDto {
+        var keyId: String? = null
+        var publicKey: String? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "keyId" -> keyId = reader.nextStringOrNull()
+                "publicKey" -> publicKey = reader.nextStringOrNull()
+                else -> reader.skipValue()
+            }
+        }
+
+        return PublicKeyResponseDto(keyId, publicKey)
+    }
+
+    override fun write(writer: JsonWriter, value: PublicKeyResponseDto) {
+        writer.writeObject {
+            property("keyId", value.keyId)
+            property("publicKey", value.publicKey)
+        }
+    }
+}
+
+internal object IinDetailsResponseAdapter : TypeAdapter<IinDetailsResponse>() {
+    private val cardTypeAdapter = EnumAdapter(
+        mapOf(CardType.CREDIT to "Credit", CardType.DEBIT to "Debit", CardType.PREPAID to "Prepaid")
+    )
+    private val statusAdapter = EnumAdapter(IinDetailStatus.entries.associateWith { it.name })
+
+    override fun read(reader: JsonReader): IinDetailsResponse {
+        var paymentProductId: String? = null
+        var countryCode: String? = null
+        var isAllowedInContext = false
+        var coBrands: MutableList<IinDetail?>? = null
+        var cardType: CardType? = CardType.CREDIT
+        var status: IinDetailStatus? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "paymentProductId" -> paymentProductId = reader.nextStringOrNull()
+                "countryCode" -> countryCode = reader.nextStringOrNull()
+                "isAllowedInContext" -> isAllowedInContext = reader.nextBooleanOrNull() ?: false
+                "coBrands" -> coBrands = reader.nextListOrNull<IinDetail?> { nextOrNull(IinDetailAdapter) }
+                "cardType" -> cardType = cardTypeAdapter.read(reader)
+                "status" -> status = statusAdapter.read(reader)
+                else -> reader.skipValue()
+            }
+        }
+
+        return IinDetailsResponse(paymentProductId, countryCode, isAllowedInContext, coBrands, cardType).also {
+            it.status = status
+        }
+    }
+
+    override fun write(writer: JsonWriter, value: IinDetailsResponse) {
+        writer.writeObject {
+            property("paymentProductId", value.paymentProductId)
+            property("countryCode", value.countryCode)
+            property("isAllowedInContext", value.isAllowedInContext)
+            listProperty("coBrands", value.coBrands) { IinDetailAdapter.write(this, it) }
+            property("cardType", value.cardType, cardTypeAdapter)
+            property("status", value.status, statusAdapter)
+        }
+    }
+}
+
+internal object IinDetailAdapter : TypeAdapter<IinDetail>() {
+    override fun read(reader: JsonReader): IinDetail {
+        var isAllowedInContext: Boolean? = null
+        var paymentProductId: String? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "isAllowedInContext" -> isAllowedInContext = reader.nextBooleanOrNull()
+                "paymentProductId" -> paymentProductId = reader.nextStringOrNull()
+                else -> reader.skipValue()
+            }
+        }
+
+        return IinDetail(isAllowedInContext, paymentProductId)
+    }
+
+    override fun write(writer: JsonWriter, value: IinDetail) {
+        writer.writeObject {
+            property("isAllowedInContext", value.isAllowedInContext)
+            property("paymentProductId", value.paymentProductId)
+        }
+    }
+}
+
+internal object SurchargeCalculationResponseAdapter : TypeAdapter<SurchargeCalculationResponse>() {
+    override fun read(reader: JsonReader): SurchargeCalculationResponse {
+        var surcharges: List<Surcharge>? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "surcharges" -> surcharges = reader.nextListOrNull { nextOrNull(SurchargeAdapter) }
+                else -> reader.skipValue()
+            }
+        }
+
+        return SurchargeCalculationResponse(surcharges ?: emptyList())
+    }
+
+    override fun write(writer: JsonWriter, value: SurchargeCalculationResponse) {
+        writer.writeObject {
+            listProperty("surcharges", value.surcharges) { SurchargeAdapter.write(this, it) }
+        }
+    }
+}
+
+internal object SurchargeAdapter : TypeAdapter<Surcharge>() {
+    private val resultAdapter = EnumAdapter(SurchargeResult.entries.associateWith { it.name })
+
+    override fun read(reader: JsonReader): Surcharge {
+        var paymentProductId = 0
+        var result: SurchargeResult? = null
+        var netAmount: AmountOfMoney? = null
+        var surchargeAmount: AmountOfMoney? = null
+        var totalAmount: AmountOfMoney? = null
+        var surchargeRate: SurchargeRate? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "paymentProductId" -> paymentProductId = reader.nextIntOrNull() ?: 0
+                "result" -> result = resultAdapter.read(reader)
+                "netAmount" -> netAmount = reader.nextOrNull(AmountOfMoneyAdapter)
+                "surchargeAmount" -> surchargeAmount = reader.nextOrNull(AmountOfMoneyAdapter)
+                "totalAmount" -> totalAmount = reader.nextOrNull(AmountOfMoneyAdapter)
+                "surchargeRate" -> surchargeRate = reader.nextOrNull(SurchargeRateAdapter)
+                else -> reader.skipValue()
+            }
+        }
+
+        return Surcharge(
+            paymentProductId = paymentProductId,
+            result = requireProperty(result, "result", "Surcharge"),
+            netAmount = requireProperty(netAmount, "netAmount", "Surcharge"),
+            surchargeAmount = requireProperty(surchargeAmount, "surchargeAmount", "Surcharge"),
+            totalAmount = requireProperty(totalAmount, "totalAmount", "Surcharge"),
+            surchargeRate = surchargeRate
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: Surcharge) {
+        writer.writeObject {
+            property("paymentProductId", value.paymentProductId)
+            property("result", value.result, resultAdapter)
+            property("netAmount", value.netAmount, AmountOfMoneyAdapter)
+            property("surchargeAmount", value.surchargeAmount, AmountOfMoneyAdapter)
+            property("totalAmount", value.totalAmount, AmountOfMoneyAdapter)
+            property("surchargeRate", value.surchargeRate, SurchargeRateAdapter)
+        }
+    }
+}
+
+internal object SurchargeRateAdapter : TypeAdapter<SurchargeRate>() {
+    override fun read(reader: JsonReader): SurchargeRate {
+        var surchargeProductTypeId: String? = null
+        var surchargeProductTypeVersion: String? = null
+        var adValoremRate = 0.0
+        var specificRate = 0
+
+        reader.readObject { name ->
+            when (name) {
+                "surchargeProductTypeId" -> surchargeProductTypeId = reader.nextStringOrNull()
+                "surchargeProductTypeVersion" -> surchargeProductTypeVersion = reader.nextStringOrNull()
+                "adValoremRate" -> adValoremRate = reader.nextDoubleOrNull() ?: 0.0
+                "specificRate" -> specificRate = reader.nextIntOrNull() ?: 0
+                else -> reader.skipValue()
+            }
+        }
+
+        return SurchargeRate(
+            surchargeProductTypeId = requireProperty(surchargeProductTypeId, "surchargeProductTypeId", "SurchargeRate"),
+            surchargeProductTypeVersion = requireProperty(
+                surchargeProductTypeVersion, "surchargeProductTypeVersion", "SurchargeRate"
+            ),
+            adValoremRate = adValoremRate,
+            specificRate = specificRate
+        )
+    }
+
+    override fun write(writer: JsonWriter, value: SurchargeRate) {
+        writer.writeObject {
+            property("surchargeProductTypeId", value.surchargeProductTypeId)
+            property("surchargeProductTypeVersion", value.surchargeProductTypeVersion)
+            property("adValoremRate", value.adValoremRate)
+            property("specificRate", value.specificRate)
+        }
+    }
+}
+
+internal object AmountOfMoneyAdapter : TypeAdapter<AmountOfMoney>() {
+    override fun read(reader: JsonReader): AmountOfMoney {
+        var amount: Long? = null
+        var currencyCode: String? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "amount" -> amount = reader.nextLongOrNull()
+                "currencyCode" -> currencyCode = reader.nextStringOrNull()
+                else -> reader.skipValue()
+            }
+        }
+
+        return AmountOfMoney(amount, requireProperty(currencyCode, "currencyCode", "AmountOfMoney"))
+    }
+
+    override fun write(writer: JsonWriter, value: AmountOfMoney) {
+        writer.writeObject {
+            property("amount", value.amount)
+            property("currencyCode", value.currencyCode)
+        }
+    }
+}
+
+internal object ApiErrorAdapter : TypeAdapter<ApiError>() {
+    override fun read(reader: JsonReader): ApiError {
+        val apiError = ApiError()
+
+        reader.readObject { name ->
+            when (name) {
+                "errorId" -> apiError.errorId = reader.nextStringOrNull()
+                "errors" -> apiError.errors = reader.nextListOrNull { nextOrNull(ApiErrorItemAdapter) }
+                else -> reader.skipValue()
+            }
+        }
+
+        return apiError
+    }
+
+    override fun write(writer: JsonWriter, value: ApiError) {
+        writer.writeObject {
+            property("errorId", value.errorId)
+            listProperty("errors", value.errors) { ApiErrorItemAdapter.write(this, it) }
+        }
+    }
+}
+
+internal object ApiErrorItemAdapter : TypeAdapter<ApiErrorItem>() {
+    override fun read(reader: JsonReader): ApiErrorItem {
+        var errorCode: String? = null
+        var category: String? = null
+        var httpStatusCode: Int? = null
+        var id: String? = null
+        var propertyName: String? = null
+        var retriable: Boolean? = null
+        var message: String? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "errorCode" -> errorCode = reader.nextStringOrNull()
+                "category" -> category = reader.nextStringOrNull()
+                "httpStatusCode" -> httpStatusCode = reader.nextIntOrNull()
+                "id" -> id = reader.nextStringOrNull()
+                "propertyName" -> propertyName = reader.nextStringOrNull()
+                "retriable" -> retriable = reader.nextBooleanOrNull()
+                "message" -> message = reader.nextStringOrNull()
+                else -> reader.skipValue()
+            }
+        }
+
+        // Missing values keep the defaults of ApiErrorItem
+        val item = ApiErrorItem(errorCode, category, httpStatusCode, id, propertyName)
+        val isRetriable = retriable ?: item.retriable
+
+        return item.copy(retriable = isRetriable, message = message ?: item.message)
+    }
+
+    override fun write(writer: JsonWriter, value: ApiErrorItem) {
+        writer.writeObject {
+            property("errorCode", value.errorCode)
+            property("category", value.category)
+            property("httpStatusCode", value.httpStatusCode)
+            property("id", value.id)
+            property("propertyName", value.propertyName)
+            property("retriable", value.retriable)
+            property("message", value.message)
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.json
+
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.JsonWriter
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRule
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleEmailAddress
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleExpirationDate
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleFixedList
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleIBAN
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleLength
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleLuhn
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleRange
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleRegex
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleTermsAndConditions
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.listProperty
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextIntOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextListOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.nextStringOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.property
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.readObject
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.readObjectOrNull
+import com.onlinepayments.sdk.client.android.infrastructure.extensions.writeObject
+
+/**
+ * Reads the `validators` object of a payment product field straight into its validation rules.
+ *
+ * The rules are created in a fixed order, independent of the order of the validators in the JSON. Length and range
+ * validators without both bounds are left out.
+ */
+internal object ValidationRulesAdapter : TypeAdapter<List<ValidationRule>>() {
+    @Suppress("CyclomaticComplexMethod", "LongMethod")
+    override fun read(reader: JsonReader): List<ValidationRule> {
+        var luhn = false
+        var iban = false
+        var termsAndConditions = false
+        var regularExpression: String? = null
+        var emailAddress = false
+        var expirationDate = false
+        var allowedValues: MutableList<String?>? = null
+        var minLength: Int? = null
+        var maxLength: Int? = null
+        var minValue: Int? = null
+        var maxValue: Int? = null
+
+        reader.readObject { name ->
+            when (name) {
+                "luhn" -> luhn = reader.nextRule()
+                "iban" -> iban = reader.nextRule()
+                "termsAndConditions" -> termsAndConditions = reader.nextRule()
+                "emailAddress" -> emailAddress = reader.nextRule()
+                "expirationDate" -> expirationDate = reader.nextRule()
+                "regularExpression" -> reader.readObjectOrNull { property ->
+                    when (property) {
+                        "regularExpression" -> regularExpression = reader.nextStringOrNull()
+                        else -> reader.skipValue()
+                    }
+                }
+
+                "fixedList" -> reader.readObjectOrNull { property ->
+                    when (property) {
+                        "allowedValues" -> allowedValues = reader.nextListOrNull<String?> { nextStringOrNull() }
+                        else -> reader.skipValue()
+                    }
+                }
+
+                "length" -> reader.readObjectOrNull { property ->
+                    when (property) {
+                        "minLength" -> minLength = reader.nextIntOrNull()
+                        "maxLength" -> maxLength = reader.nextIntOrNull()
+                        else -> reader.skipValue()
+                    }
+                }
+
+                "range" -> reader.readObjectOrNull { property ->
+                    when (property) {
+                        "minValue" -> minValue = reader.nextIntOrNull()
+                        "maxValue" -> maxValue = reader.nextIntOrNull()
+                        else -> reader.skipValue()
+                    }
+                }
+
+                else -> reader.skipValue()
+            }
+        }
+
+        val rules = ArrayList<ValidationRule>()
+
+        if (luhn) {
+            rules.add(ValidationRuleLuhn())
+        }
+
+        if (iban) {
+            rules.add(ValidationRuleIBAN())
+        }
+
+        if (termsAndConditions) {
+            rules.add(ValidationRuleTermsAndConditions())
+        }
+
+        regularExpression?.let { rules.add(ValidationRuleRegex(it)) }
+
+        if (emailAddress) {
+            rules.add(ValidationRuleEmailAddress())
+        }
+
+        if (expirationDate) {
+            rules.add(ValidationRuleExpirationDate())
+        }
+
+        allowedValues?.let { rules.add(ValidationRuleFixedList(it)) }
+
+        val min = minLength
+        val max = maxLength
+        if (min != null && max != null) {
+            rules.add(ValidationRuleLength(min, max))
+        }
+
+        val low = minValue
+        val high = maxValue
+        if (low != null && high != null) {
+            rules.add(ValidationRuleRange(low, high))
+        }
+
+        return rules
+    }
+
+    override fun write(writer: JsonWriter, value: List<ValidationRule>) {
+        writer.writeObject {
+            for (rule in value) {
+                when (rule) {
+                    is ValidationRuleLuhn -> writeRule("luhn")
+                    is ValidationRuleIBAN -> writeRule("iban")
+                    is ValidationRuleTermsAndConditions -> writeRule("termsAndConditions")
+                    is ValidationRuleEmailAddress -> writeRule("emailAddress")
+                    is ValidationRuleExpirationDate -> writeRule("expirationDate")
+                    is ValidationRuleRegex -> name("regularExpression").writeObject {
+                        property("regularExpression", rule.pattern)
+                    }
+
+                    is ValidationRuleFixedList -> name("fixedList").writeObject {
+                        listProperty("allowedValues", rule.listValues) { this.value(it) }
+                    }
+
+                    is ValidationRuleLength -> name("length").writeObject {
+                        property("minLength", rule.getMinLength())
+                        property("maxLength", rule.getMaxLength())
+                    }
+
+                    is ValidationRuleRange -> name("range").writeObject {
+                        property("minValue", rule.getMinValue())
+                        property("maxValue", rule.getMaxValue())
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Rules without settings are given as an empty object, which only tells that the rule applies.
+     */
+    private fun JsonReader.nextRule(): Boolean {
+        if (peek() == JsonToken.NULL) {
+            nextNull()
+            return false
+        }
+
+        skipValue()
+
+        return true
+    }
+
+    private fun JsonWriter.writeRule(rule: String) {
+        name(rule).beginObject().endObject()
+    }
+}
@@ -10,12 +10,16 @@
 
 package com.onlinepayments.sdk.client.android.infrastructure.utils
 
-import com.google.gson.Gson
 import com.onlinepayments.sdk.client.android.domain.exceptions.ApiError
 import com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationException
 import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
 import com.onlinepayments.sdk.client.android.domain.exceptions.SdkException
+import com.onlinepayments.sdk.client.android.infrastructure.json.ApiJson
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.TimeoutCancellationException
+import kotlinx.coroutines.currentCoroutineContext
+import kotlinx.coroutines.ensureActive
 import kotlinx.coroutines.withContext
 import retrofit2.HttpException
 import java.io.IOException
@@ -34,7 +38,7 @@ internal object ApiCallExecutor {
      * @param apiCall The suspend API call to execute
      * @return The result of the API call
      * @throws ResponseException if the API returns an error
-     * @throws CommunicationException if there's a communication error
+     * @throws CommunicationException if there's a communication error or the call exceeded its time budget
      */
     suspend inline fun <T> callApi(crossinline apiCall: suspend () -> T): T {
         return try {
@@ -45,6 +49,11 @@ internal object ApiCallExecutor {
             throw e
         } catch (e: HttpException) {
             throw handleHttpException(e)
+        } catch (e: CancellationException) {
+            // Cancellation of the caller, for example by a deadline of its own, is propagated as is;
+            // only a call exceeding its own time budget is reported as a communication error.
+            currentCoroutineContext().ensureActive()
+            throw CommunicationException(getErrorResponseMessage(e), e)
         } catch (t: Throwable) {
             // For any other unexpected exception, wrap it as well.
             throw CommunicationException(getErrorResponseMessage(t), t)
@@ -75,6 +84,7 @@ internal object ApiCallExecutor {
     fun getErrorResponseMessage(exception: Throwable): String {
         return when (exception) {
             is MalformedURLException -> "Unable to parse the request URL"
+            is TimeoutCancellationException -> "Request did not complete in time: ${exception.message}"
             is IOException -> "IOException while opening connection: ${exception.message}"
             is KeyManagementException -> "KeyManagementException while opening connection: ${exception.message}"
             is NoSuchAlgorithmException -> "NoSuchAlgorithmException while opening connection: ${exception.message}"
@@ -96,7 +106,7 @@ internal object ApiCallExecutor {
     private fun parseErrorResponse(e: HttpException): ApiError? {
         return try {
             val body = e.response()?.errorBody()?.string()
-            body?.let { Gson().fromJson(it, ApiError::class.java) }
+            body?.let { ApiJson.gson.fromJson(it, ApiError::class.java) }
         } catch (_: Exception) {
             null
         }
@@ -10,94 +10,502 @@
 
 package com.onlinepayments.sdk.client.android.infrastructure.utils
 
+import android.content.ComponentCallbacks2
+import com.onlinepayments.sdk.client.android.domain.Constants
 import com.onlinepayments.sdk.client.android.domain.PaymentContext
+import com.onlinepayments.sdk.client.android.domain.cache.CacheMetricsSnapshot
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.CachePolicy
+import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
+import com.onlinepayments.sdk.client.android.facade.listeners.CacheMetricsListener
+import com.onlinepayments.sdk.client.android.infrastructure.cache.CacheCounters
+import com.onlinepayments.sdk.client.android.infrastructure.cache.CacheEntryWeigher
+import com.onlinepayments.sdk.client.android.infrastructure.cache.CacheKey
+import com.onlinepayments.sdk.client.android.infrastructure.cache.ConcurrentLruMap
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.ICacheManager
+import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPersistentCache
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.currentCoroutineContext
+import kotlinx.coroutines.ensureActive
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+import java.util.Collections
+import java.util.EnumMap
+import java.util.WeakHashMap
 import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.TimeUnit
 
 /**
  * Cache manager with TTL (Time-To-Live) and size limits to prevent unbounded memory growth.
  *
- * @param maxSize Maximum number of items to store in cache. When exceeded, oldest entries are evicted.
+ * Concurrent [getOrFetch] calls for the same missing key are coalesced: only the first caller
+ * executes the fetch, the others suspend until it completes and receive the same result or failure.
+ *
+ * Entries are partitioned per [ApiEndpoint] of their [CacheKey], so every endpoint has its own TTL and
+ * capacity. When the cache as a whole exceeds [maxSize] entries or [maxWeight] estimated bytes, entries of endpoints
+ * with the lowest eviction weight are evicted first. The cache also shrinks on memory trim callbacks, see [trimMemory].
+ *
+ * Fetches that fail with a 404 [ResponseException] are cached separately, for [negativeTtlMillis], so that
+ * repeated lookups of an unknown IIN or unavailable product fail without a network call.
+ *
+ * Callers of [getOrFetch] that allow stale values get an expired entry returned immediately, as long as it
+ * expired less than [maxStalenessMillis] ago, while a refresh is started on [refreshScope].
+ *
+ * Hits, misses, expirations, evictions, in-flight waits and load times are counted per endpoint and exposed
+ * through [metricsSnapshot] and the listeners registered with [addMetricsListener], together with the retries reported
+ * through [recordRetry].
+ *
+ * @param maxSize Maximum number of items to store in cache. When exceeded, least recently used entries are evicted.
  * @param ttlMillis Time-to-live for cached entries in milliseconds. Expired entries are automatically removed.
+ * @param policies Policies overriding the TTL, capacity and eviction weight of individual endpoints.
+ * @param persistentCache Optional second tier used by [getOrFetchPersistent], e.g. a disk cache. Values read from it
+ *   are refreshed on [refreshScope].
+ * @param maxStalenessMillis How long after expiry an entry may still be served while it is being refreshed.
+ * @param refreshScope Scope that background refreshes run in; stale values are never served without one.
+ * @param maxWeight Memory budget of the cache in bytes, as estimated by [CacheEntryWeigher].
+ * @param negativeTtlMillis Time-to-live of cached 404 responses in milliseconds.
+ * @param negativeMaxEntries Maximum number of cached 404 responses.
+ * @param ioDispatcher Dispatcher that the persistent tier is read and written on.
  */
-class CacheManager(
+class CacheManager internal constructor(
     private val maxSize: Int = 100,
-    private val ttlMillis: Long = TimeUnit.MINUTES.toMillis(30)
+    private val ttlMillis: Long = TimeUnit.MINUTES.toMillis(30),
+    private val persistentCache: IPersistentCache? = null,
+    private val maxStalenessMillis: Long = 0,
+    private val refreshScope: CoroutineScope? = null,
+    policies: Map<ApiEndpoint, CachePolicy> = emptyMap(),
+    private val maxWeight: Long = Long.MAX_VALUE,
+    private val negativeTtlMillis: Long = TimeUnit.MINUTES.toMillis(5),
+    negativeMaxEntries: Int = 50,
+    private val ioDispatcher: CoroutineDispatcher = Dispatchers.IO
 ) : ICacheManager {
 
+    /**
+     * Creates an in-memory cache without a persistent tier, stale values or per-endpoint policies.
+     *
+     * @param maxSize Maximum number of items to store in cache. When exceeded, least recently used entries are evicted.
+     * @param ttlMillis Time-to-live for cached entries in milliseconds. Expired entries are automatically removed.
+     */
+    constructor(
+        maxSize: Int = 100,
+        ttlMillis: Long = TimeUnit.MINUTES.toMillis(30)
+    ) : this(maxSize, ttlMillis, persistentCache = null)
+
     private data class CacheEntry(
         val value: Any,
+        val timestamp: Long = System.currentTimeMillis(),
+        val weight: Int = CacheEntryWeigher.weigh(value)
+    ) {
+        fun age(): Long {
+            return System.currentTimeMillis() - timestamp
+        }
+    }
+
+    private class NegativeEntry(
+        val exception: ResponseException,
         val timestamp: Long = System.currentTimeMillis()
     ) {
-        fun isExpired(ttl: Long): Boolean {
-            return System.currentTimeMillis() - timestamp > ttl
+        fun isExpired(ttlMillis: Long): Boolean {
+            return System.currentTimeMillis() - timestamp > ttlMillis
+        }
+
+        // A new instance per caller, so stack traces and suppressed exceptions are not shared
+        fun newException(): ResponseException {
+            return ResponseException(
+                httpStatusCode = exception.httpStatusCode,
+                message = exception.message.orEmpty(),
+                apiError = exception.apiError,
+                cause = exception.cause
+            )
         }
     }
 
-    private val cache = ConcurrentHashMap<String, CacheEntry>()
+    private class Region(val policy: CachePolicy) {
+        val counters = CacheCounters()
+        val entries = ConcurrentLruMap<CacheKey, CacheEntry>(policy.maxEntries, weigher = { it.weight }) { _, _ ->
+            counters.evictions.incrementAndGet()
+        }
+    }
+
+    private val endpointRegions = EnumMap<ApiEndpoint, Region>(ApiEndpoint::class.java).apply {
+        ApiEndpoint.entries.forEach { endpoint ->
+            put(
+                endpoint,
+                Region(
+                    policies[endpoint] ?: CachePolicy(
+                        ttlMillis = ttlMillis,
+                        maxEntries = maxSize,
+                        evictionWeight = DEFAULT_EVICTION_WEIGHTS[endpoint] ?: 1
+                    )
+                )
+            )
+        }
+    }
+
+    private val regionsByEvictionOrder: List<Region> =
+        endpointRegions.values.sortedBy { it.policy.evictionWeight }
+
+    private val negativeEntries = ConcurrentLruMap<CacheKey, NegativeEntry>(negativeMaxEntries.coerceAtLeast(1))
+
+    private val inFlight = ConcurrentHashMap<CacheKey, CompletableDeferred<Any?>>()
+
+    private val metricsListeners: MutableSet<CacheMetricsListener> =
+        Collections.synchronizedSet(Collections.newSetFromMap(WeakHashMap()))
 
     override fun createCacheKeyFromContext(
-        prefix: String,
+        endpoint: ApiEndpoint,
         context: PaymentContext,
         suffix: String?
-    ): String = buildString {
-        append(prefix)
-        append('-')
+    ): CacheKey = CacheKey(endpoint, context.cacheKey, suffix)
+
+    override fun hasCache(key: CacheKey): Boolean {
+        return getFreshEntry(key) != null
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun <T> get(key: CacheKey): T? {
+        return getFreshEntry(key)?.value as? T
+    }
+
+    private fun getFreshEntry(key: CacheKey): CacheEntry? {
+        val region = regionFor(key)
+        val entry: CacheEntry = region.entries[key] ?: return null
+        val age = entry.age()
+        val ttl = region.policy.ttlMillis
+
+        if (age <= ttl) {
+            return entry
+        }
+
+        // Expired entries are kept while they can still be served stale
+        if (age > ttl + maxStalenessMillis && region.entries.remove(key, entry)) {
+            region.counters.expirations.incrementAndGet()
+        }
 
-        listOfNotNull(
-            context.amountOfMoney.amount,
-            context.countryCode,
-            context.isRecurring,
-            context.amountOfMoney.currencyCode,
-            suffix
-        ).joinTo(this, separator = "_")
+        return null
     }
 
-    override fun hasCache(key: String): Boolean {
-        val entry = cache[key] ?: return false
+    override fun <T> set(key: CacheKey, value: T) {
+        regionFor(key).entries.put(key, CacheEntry(value as Any))
+        negativeEntries.remove(key)
 
-        if (entry.isExpired(ttlMillis)) {
-            cache.remove(key)
-            return false
+        evictToMaxSize()
+    }
+
+    /**
+     * Clears the in-memory entries. The persistent tier is left untouched.
+     */
+    override fun clear() {
+        regionsByEvictionOrder.forEach { it.entries.clear() }
+        negativeEntries.clear()
+    }
+
+    private fun regionFor(key: CacheKey): Region = endpointRegions.getValue(key.endpoint)
+
+    override fun recordRetry(endpoint: ApiEndpoint) {
+        endpointRegions.getValue(endpoint).counters.retries.incrementAndGet()
+    }
+
+    override fun metricsSnapshot(): CacheMetricsSnapshot {
+        return CacheMetricsSnapshot(endpointRegions.mapValues { (_, region) -> region.counters.toMetrics() })
+    }
+
+    /**
+     * Shrinks the in-memory tier for a [ComponentCallbacks2] trim level: entries are dropped entirely when the
+     * process is likely to be killed, and halved by weight when memory is getting low or the UI is hidden.
+     */
+    @Suppress("DEPRECATION")
+    override fun trimMemory(level: Int) {
+        when {
+            level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE ||
+                level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL -> clear()
+
+            level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN ||
+                level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW -> {
+                val targetWeight = totalWeight() / 2
+                evictWhile { totalWeight() > targetWeight }
+            }
         }
+    }
 
-        return true
+    private fun totalWeight(): Long = regionsByEvictionOrder.sumOf { it.entries.weight }
+
+    private fun evictToMaxSize() {
+        evictWhile { regionsByEvictionOrder.sumOf { it.entries.size } > maxSize || totalWeight() > maxWeight }
     }
 
+    private inline fun evictWhile(condition: () -> Boolean) {
+        while (condition()) {
+            val evicted = regionsByEvictionOrder.any { it.entries.removeEldest() }
+
+            if (!evicted) {
+                return
+            }
+        }
+    }
+
+    override suspend fun <T> getOrFetch(
+        key: CacheKey,
+        allowStale: Boolean,
+        fetch: suspend () -> T
+    ): T = getOrLoad(key, allowStale, fetch, fetch)
+
+    /**
+     * [getOrFetch] with a separate [refresh] for background refreshes of stale values.
+     */
     @Suppress("UNCHECKED_CAST")
-    override fun <T> get(key: String): T? {
-        val entry: CacheEntry = cache[key] ?: return null
+    private suspend fun <T> getOrLoad(
+        key: CacheKey,
+        allowStale: Boolean,
+        refresh: suspend () -> T,
+        fetch: suspend () -> T
+    ): T {
+        val counters = regionFor(key).counters
+
+        get<T>(key)?.let {
+            counters.hits.incrementAndGet()
+            return it
+        }
+
+        if (allowStale) {
+            getStaleValue<T>(key)?.let { staleValue ->
+                counters.hits.incrementAndGet()
+                refreshInBackground(key, refresh)
+                return staleValue
+            }
+        }
+
+        getNegativeEntry(key)?.let { negativeEntry ->
+            counters.negativeHits.incrementAndGet()
+            throw negativeEntry.newException()
+        }
+
+        counters.misses.incrementAndGet()
+
+        while (true) {
+            get<T>(key)?.let { return it }
+
+            val deferred = CompletableDeferred<Any?>()
+            val pending = inFlight.putIfAbsent(key, deferred) ?: return load(key, deferred, fetch)
 
-        if (entry.isExpired(ttlMillis)) {
-            cache.remove(key)
+            counters.inFlightWaits.incrementAndGet()
+
+            try {
+                return pending.await() as T
+            } catch (_: CancellationException) {
+                // The caller that owned the fetch was cancelled; retry unless we were cancelled ourselves.
+                currentCoroutineContext().ensureActive()
+            }
+        }
+    }
+
+    private fun getNegativeEntry(key: CacheKey): NegativeEntry? {
+        val entry = negativeEntries[key] ?: return null
+
+        if (entry.isExpired(negativeTtlMillis)) {
+            negativeEntries.remove(key, entry)
+            return null
+        }
+
+        return entry
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun <T> getStaleValue(key: CacheKey): T? {
+        if (refreshScope == null || maxStalenessMillis <= 0) {
             return null
         }
 
-        return entry.value as? T
+        val region = regionFor(key)
+        val entry = region.entries[key] ?: return null
+        val age = entry.age()
+        val ttl = region.policy.ttlMillis
+
+        return if (age > ttl && age <= ttl + maxStalenessMillis) entry.value as? T else null
     }
 
-    override fun <T> set(key: String, value: T) {
-        // Simple LRU: if cache is full, remove oldest entry
-        if (cache.size >= maxSize) {
-            val oldestKey = cache.entries
-                .minByOrNull { it.value.timestamp }
-                ?.key
+    private fun <T> refreshInBackground(key: CacheKey, fetch: suspend () -> T) {
+        val scope = refreshScope ?: return
+        val deferred = CompletableDeferred<Any?>()
 
-            oldestKey?.let { cache.remove(it) }
+        // A refresh or regular fetch for this key is already running
+        if (inFlight.putIfAbsent(key, deferred) != null) {
+            return
         }
 
-        cache[key] = CacheEntry(value as Any)
+        scope.launch {
+            try {
+                load(key, deferred, fetch, force = true)
+            } catch (_: Exception) {
+                // The stale value keeps being served until it exceeds the maximum staleness
+            }
+        }.invokeOnCompletion {
+            // Release waiters if the scope was cancelled before the refresh could start
+            if (inFlight.remove(key, deferred)) {
+                deferred.cancel()
+            }
+        }
     }
 
-    override fun clear() {
-        cache.clear()
+    /**
+     * @param force Whether [fetch] runs even when a fresh value is cached, as for a refresh of a value read from
+     *   the persistent tier
+     */
+    private suspend fun <T> load(
+        key: CacheKey,
+        deferred: CompletableDeferred<Any?>,
+        fetch: suspend () -> T,
+        force: Boolean = false
+    ): T {
+        try {
+            // Another caller may have stored the value between our cache miss and claiming the key.
+            val cached = if (force) null else get<T>(key)
+            val value = cached ?: timedFetch(key, fetch).also { set(key, it) }
+            deferred.complete(value)
+
+            return value
+        } catch (e: Throwable) {
+            // Failures are shared with every waiting caller, but only "not found" responses are cached.
+            if (e is ResponseException && e.httpStatusCode == Constants.NOT_FOUND_ERROR && negativeTtlMillis > 0) {
+                negativeEntries.put(key, NegativeEntry(e))
+            }
+
+            deferred.completeExceptionally(e)
+            throw e
+        } finally {
+            inFlight.remove(key, deferred)
+        }
     }
 
-    override suspend fun <T> getOrFetch(
-        key: String,
-        fetch: suspend () -> T
+    private suspend fun <T> timedFetch(key: CacheKey, fetch: suspend () -> T): T {
+        val start = System.nanoTime()
+
+        try {
+            return fetch()
+        } finally {
+            regionFor(key).counters.recordLoad(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+            notifyMetricsListener()
+        }
+    }
+
+    override fun addMetricsListener(listener: CacheMetricsListener) {
+        metricsListeners.add(listener)
+    }
+
+    override fun removeMetricsListener(listener: CacheMetricsListener) {
+        metricsListeners.remove(listener)
+    }
+
+    private fun notifyMetricsListener() {
+        val listeners = synchronized(metricsListeners) { metricsListeners.toList() }
+
+        if (listeners.isEmpty()) {
+            return
+        }
+
+        val snapshot = metricsSnapshot()
+
+        for (listener in listeners) {
+            try {
+                listener.onCacheMetrics(snapshot)
+            } catch (_: Exception) {
+                // A failing listener must not fail the request that filled the cache
+            }
+        }
+    }
+
+    override suspend fun <R : Any, T> getOrFetchPersistent(
+        key: CacheKey,
+        type: Class<R>,
+        allowStale: Boolean,
+        networkFirst: Boolean,
+        persistable: (R) -> R,
+        fetch: suspend () -> R,
+        transform: suspend (R) -> T
     ): T {
-        return get(key) ?: fetch().also { set(key, it) }
+        val persistentCache = persistentCache ?: return getOrFetch(key, allowStale) { transform(fetch()) }
+
+        val persistentKey = key.toString()
+
+        val readPersisted: suspend () -> R? = {
+            withContext(ioDispatcher) { persistentCache.read(persistentKey, type) }
+        }
+
+        val revalidate: suspend () -> T = {
+            val response = fetch()
+            withContext(ioDispatcher) { persistentCache.write(persistentKey, persistable(response)) }
+            transform(response)
+        }
+
+        var readFromPersistentCache = false
+
+        // Only a cold miss reads the persistent tier; refreshes of stale values fetch and overwrite it
+        val value = getOrLoad(key, allowStale, refresh = revalidate) {
+            val persisted = if (networkFirst) null else readPersisted()
+
+            when {
+                persisted != null -> {
+                    readFromPersistentCache = true
+                    transform(persisted)
+                }
+
+                networkFirst -> try {
+                    revalidate()
+                } catch (e: Exception) {
+                    val fallback = if (canFallBack(e)) readPersisted() else null
+                    fallback ?: throw e
+
+                    readFromPersistentCache = true
+                    transform(fallback)
+                }
+
+                else -> revalidate()
+            }
+        }
+
+        when {
+            !readFromPersistentCache -> Unit
+
+            // A fallback is only returned to this caller; the next one asks the network again
+            networkFirst -> evict(key, value)
+
+            // The persisted response may be outdated and lacks what is not persistable
+            else -> refreshInBackground(key, revalidate)
+        }
+
+        return value
+    }
+
+    /**
+     * Whether a failed fetch may be replaced by a persisted response: error responses of the client are answers
+     * that the persisted response must not hide.
+     */
+    private fun canFallBack(e: Exception): Boolean {
+        return e !is CancellationException &&
+            !(e is ResponseException && (e.httpStatusCode ?: 0) < HTTP_SERVER_ERROR)
+    }
+
+    private fun evict(key: CacheKey, value: Any?) {
+        val entries = regionFor(key).entries
+        val entry = entries[key] ?: return
+
+        if (entry.value === value) {
+            entries.remove(key, entry)
+        }
+    }
+
+    private companion object {
+        const val HTTP_SERVER_ERROR = 500
+
+        // Product metadata is large and expensive to fetch; IIN and quote results are cheap to recompute
+        val DEFAULT_EVICTION_WEIGHTS = mapOf(
+            ApiEndpoint.PAYMENT_PRODUCTS to 3,
+            ApiEndpoint.PAYMENT_PRODUCT to 3,
+            ApiEndpoint.PAYMENT_PRODUCT_NETWORKS to 2
+        )
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.utils
+
+import com.onlinepayments.sdk.client.android.domain.exceptions.SdkException
+import kotlinx.coroutines.CancellationException
+
+/**
+ * Runs [block] and captures its outcome, so that a failed call can be reported next to the results of other calls
+ * instead of failing them all. The failure of the returned result is always an [SdkException]; other exceptions
+ * are wrapped. Cancellation is propagated as is.
+ */
+internal inline fun <T> runCatchingSdk(block: () -> T): Result<T> {
+    return try {
+        Result.success(block())
+    } catch (e: CancellationException) {
+        throw e
+    } catch (e: SdkException) {
+        Result.failure(e)
+    } catch (e: Exception) {
+        Result.failure(SdkException(message = e.message ?: "Unknown error", cause = e))
+    }
+}
+
+/**
+ * Performs [action] with the failure of a result returned by [runCatchingSdk].
+ */
+internal inline fun <T> Result<T>.onSdkFailure(action: (SdkException) -> Unit): Result<T> {
+    return onFailure { action(it as SdkException) }
+}
@@ -0,0 +1,84 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.services
+
+import com.onlinepayments.sdk.client.android.domain.PaymentContextWithAmount
+import com.onlinepayments.sdk.client.android.domain.card.Card
+import com.onlinepayments.sdk.client.android.domain.card.CardResolution
+import com.onlinepayments.sdk.client.android.domain.card.CardResolutionOptions
+import com.onlinepayments.sdk.client.android.domain.card.CardSource
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.exceptions.SdkException
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailStatus
+import com.onlinepayments.sdk.client.android.infrastructure.utils.onSdkFailure
+import com.onlinepayments.sdk.client.android.infrastructure.utils.runCatchingSdk
+import com.onlinepayments.sdk.client.android.services.interfaces.ICardResolutionService
+import com.onlinepayments.sdk.client.android.services.interfaces.IClientService
+import com.onlinepayments.sdk.client.android.services.interfaces.IPaymentProductService
+import kotlinx.coroutines.async
+import kotlinx.coroutines.coroutineScope
+
+/**
+ * Resolves a card number in one round trip after the IIN lookup: as soon as the IIN names a payment product, its
+ * details, the surcharge and the currency conversion quote are retrieved concurrently instead of one after another.
+ */
+internal class CardResolutionService(
+    private val clientService: IClientService,
+    private val paymentProductService: IPaymentProductService,
+) : ICardResolutionService {
+
+    override suspend fun resolveCard(
+        partialCreditCardNumber: String,
+        paymentContext: PaymentContextWithAmount,
+        options: CardResolutionOptions
+    ): CardResolution {
+        val iinDetails = clientService.getIinDetails(partialCreditCardNumber, paymentContext)
+        val paymentProductId = iinDetails.paymentProductId?.toIntOrNull()
+
+        if (iinDetails.status != IinDetailStatus.SUPPORTED || paymentProductId == null) {
+            return CardResolution(iinDetails)
+        }
+
+        val amountOfMoney = paymentContext.amountOfMoney
+        val cardSource = CardSource(Card(partialCreditCardNumber, paymentProductId))
+
+        return coroutineScope {
+            val paymentProduct = async {
+                runCatchingSdk { paymentProductService.getPaymentProduct(paymentProductId, paymentContext) }
+            }
+            val surchargeCalculation = if (options.surchargeCalculation) {
+                async { runCatchingSdk { clientService.getSurchargeCalculation(amountOfMoney, cardSource) } }
+            } else {
+                null
+            }
+            val currencyConversion = if (options.currencyConversion) {
+                async { runCatchingSdk { clientService.getCurrencyConversionQuote(amountOfMoney, cardSource) } }
+            } else {
+                null
+            }
+
+            val errors = mutableMapOf<ApiEndpoint, SdkException>()
+            val product = paymentProduct.await().onSdkFailure { errors[ApiEndpoint.PAYMENT_PRODUCT] = it }
+            val surcharge = surchargeCalculation?.await()
+                ?.onSdkFailure { errors[ApiEndpoint.SURCHARGE_CALCULATION] = it }
+            val quote = currencyConversion?.await()
+                ?.onSdkFailure { errors[ApiEndpoint.CURRENCY_CONVERSION_QUOTE] = it }
+
+            CardResolution(
+                iinDetails = iinDetails,
+                paymentProduct = product.getOrNull(),
+                surchargeCalculation = surcharge?.getOrNull(),
+                currencyConversion = quote?.getOrNull(),
+                errors = errors
+            )
+        }
+    }
+}
@@ -14,38 +14,46 @@ import com.onlinepayments.sdk.client.android.domain.AmountOfMoney
 import com.onlinepayments.sdk.client.android.domain.Constants
 import com.onlinepayments.sdk.client.android.domain.PaymentContextWithAmount
 import com.onlinepayments.sdk.client.android.domain.card.CardSource
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionRequest
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionResponse
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.Transaction
-import com.onlinepayments.sdk.client.android.domain.exceptions.IllegalStateSdkException
 import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
+import com.onlinepayments.sdk.client.android.domain.iin.BinRangeIndex
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailStatus
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsRequest
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationRequest
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
+import com.onlinepayments.sdk.client.android.infrastructure.cache.CacheKey
+import com.onlinepayments.sdk.client.android.infrastructure.cache.IinPrefixTrie
+import com.onlinepayments.sdk.client.android.infrastructure.cache.PaymentContextKey
+import com.onlinepayments.sdk.client.android.infrastructure.cache.QuoteKeyDigest
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.ICacheManager
+import com.onlinepayments.sdk.client.android.infrastructure.utils.runCatchingSdk
 import com.onlinepayments.sdk.client.android.services.interfaces.IClientService
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.transformLatest
 
 internal class ClientService(
     private val apiClient: IApiClient,
     private val sessionData: SessionData,
     private val cacheManager: ICacheManager,
+    private val binRangeIndex: BinRangeIndex? = null,
 ) : IClientService {
-    @Volatile
-    private var iinLookupPending = false
+    private val iinPrefixes = IinPrefixTrie()
+    private val quoteKeyDigest = QuoteKeyDigest()
 
     override suspend fun getIinDetails(
         partialCreditCardNumber: String,
         paymentContext: PaymentContextWithAmount
     ): IinDetailsResponse {
-
-        if (iinLookupPending) {
-            throw IllegalStateSdkException("IIN lookup is already in progress")
-        }
-
         val partialCCNumber =
             partialCreditCardNumber.take(Constants.MAX_CHARS_PAYMENT_PRODUCT_ID_LOOKUP)
 
@@ -53,40 +61,129 @@ internal class ClientService(
             return IinDetailsResponse(IinDetailStatus.NOT_ENOUGH_DIGITS)
         }
 
-        val cacheKey = "getIinDetails-$partialCCNumber"
+        getShorterPrefixIinDetails(partialCCNumber)?.let { return it }
 
-        iinLookupPending = true
+        val cacheKey = CacheKey(ApiEndpoint.IIN_DETAILS, suffix = partialCCNumber)
 
-        return try {
+        // Concurrent lookups of the same IIN share one request through the cache manager
+        val result = try {
             cacheManager.getOrFetch(cacheKey) {
-                try {
-                    val request = IinDetailsRequest(partialCCNumber, paymentContext)
-                    val response = apiClient.getIinDetails(sessionData.customerId, request)
-
-                    if (response.paymentProductId == null) {
-                        IinDetailsResponse(IinDetailStatus.UNKNOWN)
-                    } else {
-                        val result = IinDetailsResponse(
-                            response.paymentProductId,
-                            response.countryCode, response.isAllowedInContext, response.coBrands, response.cardType
-                        )
-
-                        result.status =
-                            if (response.isAllowedInContext) IinDetailStatus.SUPPORTED
-                            else IinDetailStatus.EXISTING_BUT_NOT_ALLOWED
-
-                        result
-                    }
-                } catch (e: ResponseException) {
-                    if (e.httpStatusCode == Constants.NOT_FOUND_ERROR) {
-                        IinDetailsResponse(IinDetailStatus.UNKNOWN)
-                    } else {
-                        throw e
+                val request = IinDetailsRequest(partialCCNumber, paymentContext)
+                val response = apiClient.getIinDetails(sessionData.customerId, request)
+
+                if (response.paymentProductId == null) {
+                    IinDetailsResponse(IinDetailStatus.UNKNOWN)
+                } else {
+                    val result = IinDetailsResponse(
+                        response.paymentProductId,
+                        response.countryCode, response.isAllowedInContext, response.coBrands, response.cardType
+                    )
+
+                    result.status =
+                        if (response.isAllowedInContext) IinDetailStatus.SUPPORTED
+                        else IinDetailStatus.EXISTING_BUT_NOT_ALLOWED
+
+                    result
+                }
+            }
+        } catch (e: ResponseException) {
+            // Unknown IINs are cached as "not found" by the cache manager, so this also covers repeated lookups
+            if (e.httpStatusCode == Constants.NOT_FOUND_ERROR) {
+                IinDetailsResponse(IinDetailStatus.UNKNOWN)
+            } else {
+                throw e
+            }
+        }
+
+        if (holdsForLongerPrefixes(result)) {
+            iinPrefixes.add(partialCCNumber)
+        }
+
+        return result
+    }
+
+    /**
+     * Returns the part of the cached answer for a shorter prefix of [partialCCNumber] that also holds for it, if any:
+     * the payment product and its status. The country and card type depend on the issuer, which more digits may
+     * tell apart, so they are left out, and a number of the full lookup length is always looked up. Prefixes whose
+     * answer has expired are forgotten.
+     */
+    private fun getShorterPrefixIinDetails(partialCCNumber: String): IinDetailsResponse? {
+        if (partialCCNumber.length >= Constants.MAX_CHARS_PAYMENT_PRODUCT_ID_LOOKUP) {
+            return null
+        }
+
+        while (true) {
+            val prefix = iinPrefixes.longestPrefixOf(partialCCNumber)
+            if (prefix == null || prefix == partialCCNumber) {
+                return null
+            }
+
+            val cached = cacheManager.get<IinDetailsResponse>(CacheKey(ApiEndpoint.IIN_DETAILS, suffix = prefix))
+            if (cached != null) {
+                return IinDetailsResponse(
+                    paymentProductId = cached.paymentProductId,
+                    isAllowedInContext = cached.isAllowedInContext,
+                    cardType = null
+                ).also { it.status = cached.status }
+            }
+
+            iinPrefixes.remove(prefix)
+        }
+    }
+
+    /**
+     * An answer that names a single payment product settles the brand for the longer prefixes. Co-branded cards
+     * are only answered for their own prefix, because more digits may tell the brands apart, and unknown prefixes
+     * are never reused, because a longer IIN may still be known.
+     */
+    private fun holdsForLongerPrefixes(response: IinDetailsResponse): Boolean {
+        val known = response.status == IinDetailStatus.SUPPORTED ||
+            response.status == IinDetailStatus.EXISTING_BUT_NOT_ALLOWED
+
+        return known && response.coBrands.orEmpty().all { coBrand ->
+            coBrand == null || coBrand.paymentProductId == response.paymentProductId
+        }
+    }
+
+    /**
+     * Only the digits used for the lookup are compared, so typing beyond them does not start a new lookup. A new
+     * prefix cancels the lookup of the previous one. With a [BinRangeIndex], the provisional answer for a prefix is
+     * emitted right away; prefixes too short for a lookup then get no other answer.
+     */
+    @OptIn(ExperimentalCoroutinesApi::class)
+    override fun getIinDetails(
+        partialCreditCardNumbers: Flow<String>,
+        paymentContext: PaymentContextWithAmount,
+        debounceMillis: Long
+    ): Flow<Result<IinDetailsResponse>> {
+        return partialCreditCardNumbers
+            .map { it.take(Constants.MAX_CHARS_PAYMENT_PRODUCT_ID_LOOKUP) }
+            .distinctUntilChanged()
+            .transformLatest { partialCCNumber ->
+                val provisional = getProvisionalIinDetails(partialCCNumber)
+                if (provisional != null) {
+                    emit(Result.success(provisional))
+
+                    if (partialCCNumber.length < Constants.MIN_CHARS_PAYMENT_PRODUCT_ID_LOOKUP) {
+                        return@transformLatest
                     }
                 }
+
+                // Debounce: a newer prefix cancels this block while it waits
+                delay(debounceMillis)
+                emit(runCatchingSdk { getIinDetails(partialCCNumber, paymentContext) })
             }
-        } finally {
-            iinLookupPending = false
+    }
+
+    private fun getProvisionalIinDetails(partialCCNumber: String): IinDetailsResponse? {
+        val paymentProductId = binRangeIndex?.getPaymentProductId(partialCCNumber) ?: return null
+        if (paymentProductId == BinRangeIndex.NO_PAYMENT_PRODUCT) {
+            return null
+        }
+
+        return IinDetailsResponse(paymentProductId = paymentProductId.toString(), cardType = null).also {
+            it.status = IinDetailStatus.PROVISIONAL
         }
     }
 
@@ -94,13 +191,11 @@ internal class ClientService(
         amountOfMoney: AmountOfMoney,
         cardSource: CardSource,
     ): CurrencyConversionResponse {
-        val cacheKey =
-            listOfNotNull(
-                "getCurrencyConversionQuote",
-                amountOfMoney.amount.toString(),
-                amountOfMoney.currencyCode,
-                getCardNumberOrTokenSuffix(cardSource)
-            ).joinToString("-")
+        val cacheKey = CacheKey(
+            ApiEndpoint.CURRENCY_CONVERSION_QUOTE,
+            PaymentContextKey(amountOfMoney),
+            quoteKeyDigest.suffixOf(cardSource)
+        )
 
         return cacheManager.getOrFetch(cacheKey) {
             val response = apiClient.getCurrencyConversionQuote(
@@ -120,13 +215,11 @@ internal class ClientService(
         amountOfMoney: AmountOfMoney,
         cardSource: CardSource,
     ): SurchargeCalculationResponse {
-        val cacheKey =
-            listOfNotNull(
-                "getSurchargeCalculation",
-                amountOfMoney.amount.toString(),
-                amountOfMoney.currencyCode,
-                getCardNumberOrTokenSuffix(cardSource)
-            ).joinToString("-")
+        val cacheKey = CacheKey(
+            ApiEndpoint.SURCHARGE_CALCULATION,
+            PaymentContextKey(amountOfMoney),
+            quoteKeyDigest.suffixOf(cardSource)
+        )
 
         return cacheManager.getOrFetch(cacheKey) {
             apiClient.getSurchargeCalculation(
@@ -135,10 +228,6 @@ internal class ClientService(
             )
         }
     }
-
-    private fun getCardNumberOrTokenSuffix(cardSource: CardSource): String? {
-        return cardSource.card?.cardNumber ?: cardSource.token
-    }
 }
 
 
@@ -20,7 +20,7 @@ import com.onlinepayments.sdk.client.android.domain.paymentRequest.EncryptedRequ
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.PaymentRequest
 import com.onlinepayments.sdk.client.android.domain.publicKey.PublicKeyResponse
 import com.onlinepayments.sdk.client.android.infrastructure.encryption.Encryptor
-import com.onlinepayments.sdk.client.android.infrastructure.encryption.MetadataUtil
+import com.onlinepayments.sdk.client.android.infrastructure.encryption.ClientMetaInfoProvider
 import com.onlinepayments.sdk.client.android.infrastructure.encryption.RequestEncryptionData
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.INonceProvider
@@ -40,6 +40,10 @@ internal class EncryptionService(
         context: Context
     ) : this(apiClient, sessionData, context, null)
 
+    private val clientMetaInfo by lazy {
+        ClientMetaInfoProvider(context, configuration?.appIdentifier, Constants.SDK_IDENTIFIER)
+    }
+
     override suspend fun getPublicKey(): PublicKeyResponse {
         val dto = apiClient.getPublicKey(sessionData.customerId)
 
@@ -77,7 +81,7 @@ internal class EncryptionService(
 
         return EncryptedRequest(
             encryptedRequest,
-            MetadataUtil.getBase64EncodedMetadata(context, configuration?.appIdentifier, Constants.SDK_IDENTIFIER)
+            clientMetaInfo.encoded.orEmpty()
         )
     }
 
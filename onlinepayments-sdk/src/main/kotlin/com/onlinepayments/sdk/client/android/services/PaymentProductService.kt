@@ -13,26 +13,43 @@ package com.onlinepayments.sdk.client.android.services
 import android.content.Context
 import com.onlinepayments.sdk.client.android.domain.Constants
 import com.onlinepayments.sdk.client.android.domain.PaymentContext
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
 import com.onlinepayments.sdk.client.android.domain.configuration.SdkConfiguration
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
 import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
+import com.onlinepayments.sdk.client.android.domain.exceptions.SdkException
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProducts
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductsResult
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.ICacheManager
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPaymentProductFactory
 import com.onlinepayments.sdk.client.android.infrastructure.utils.GooglePayUtil
 import com.onlinepayments.sdk.client.android.infrastructure.utils.SupportedProductsUtil
+import com.onlinepayments.sdk.client.android.infrastructure.utils.onSdkFailure
+import com.onlinepayments.sdk.client.android.infrastructure.utils.runCatchingSdk
 import com.onlinepayments.sdk.client.android.services.interfaces.IPaymentProductService
-
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
+
+/**
+ * @param cacheManager Cache of the client session, for product lists and product details, which include the accounts
+ *   on file of the session.
+ * @param productCacheManager Cache for product networks, which may be shared between client sessions.
+ */
 internal class PaymentProductService(
     private val apiClient: IApiClient,
     private val context: Context,
     private val sessionData: SessionData,
     private val configuration: SdkConfiguration?,
     private val cacheManager: ICacheManager,
+    private val productCacheManager: ICacheManager = cacheManager,
     private val paymentProductFactory: IPaymentProductFactory
 ) : IPaymentProductService {
 
@@ -40,16 +57,18 @@ internal class PaymentProductService(
         paymentContext: PaymentContext
     ): BasicPaymentProducts {
         val cacheKey = cacheManager.createCacheKeyFromContext(
-            prefix = "getPaymentProducts",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCTS,
             context = paymentContext
         )
 
-        return cacheManager.getOrFetch(cacheKey) {
-            val response = apiClient.getBasicPaymentProducts(
-                sessionData.customerId,
-                paymentContext.toMap()
-            )
-
+        return cacheManager.getOrFetchPersistent(
+            key = cacheKey,
+            type = BasicPaymentProductsDto::class.java,
+            allowStale = true,
+            networkFirst = true,
+            persistable = { it.withoutAccountsOnFile() },
+            fetch = { apiClient.getBasicPaymentProducts(sessionData.customerId, paymentContext.toMap()) }
+        ) { response ->
             val basicPaymentProducts = paymentProductFactory.createBasicPaymentProducts(response)
 
             filterUnsupportedProducts(basicPaymentProducts.paymentProducts)
@@ -67,18 +86,21 @@ internal class PaymentProductService(
         }
 
         val cacheKey = cacheManager.createCacheKeyFromContext(
-            prefix = "getPaymentProduct-$productId",
-            context = paymentContext
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
+            context = paymentContext,
+            suffix = productId.toString()
         )
 
-        return cacheManager.getOrFetch(cacheKey) {
-            val response = apiClient.getPaymentProduct(
-                sessionData.customerId,
-                productId.toString(),
-                paymentContext.toMap()
-            )
-
-            val paymentProduct = paymentProductFactory.createPaymentProduct(response)
+        return cacheManager.getOrFetchPersistent(
+            key = cacheKey,
+            type = PaymentProduct::class.java,
+            allowStale = true,
+            networkFirst = true,
+            persistable = { it.withoutAccountsOnFile() },
+            fetch = {
+                apiClient.getPaymentProduct(sessionData.customerId, productId.toString(), paymentContext.toMap())
+            }
+        ) { paymentProduct ->
             if (!this.isProductSupported(paymentProduct)) {
                 throw404(productId)
             }
@@ -87,22 +109,63 @@ internal class PaymentProductService(
         }
     }
 
+    /**
+     * Fetches the products concurrently, at most [SdkConfiguration.maxConcurrentProductRequests] at a time. Every
+     * product goes through [getPaymentProduct], so products that are cached or already being fetched are not
+     * requested again.
+     */
+    override suspend fun getPaymentProducts(
+        productIds: List<Int>,
+        paymentContext: PaymentContext
+    ): PaymentProductsResult {
+        val permits = Semaphore(
+            (configuration?.maxConcurrentProductRequests ?: SdkConfiguration.DEFAULT_MAX_CONCURRENT_PRODUCT_REQUESTS)
+                .coerceAtLeast(1)
+        )
+
+        val outcomes = coroutineScope {
+            productIds.distinct().map { productId ->
+                async {
+                    permits.withPermit {
+                        productId to runCatchingSdk { getPaymentProduct(productId, paymentContext) }
+                    }
+                }
+            }.awaitAll()
+        }
+
+        val paymentProducts = ArrayList<PaymentProduct>(outcomes.size)
+        val errors = LinkedHashMap<Int, SdkException>()
+        for ((productId, outcome) in outcomes) {
+            outcome
+                .onSuccess { paymentProducts.add(it) }
+                .onSdkFailure { errors[productId] = it }
+        }
+
+        return PaymentProductsResult(paymentProducts, errors)
+    }
+
     override suspend fun getPaymentProductNetworks(
         productId: Int,
         paymentContext: PaymentContext
     ): PaymentProductNetworksResponse {
-        val cacheKey = cacheManager.createCacheKeyFromContext(
-            prefix = "getPaymentProductNetworks-$productId",
-            context = paymentContext
+        val cacheKey = productCacheManager.createCacheKeyFromContext(
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT_NETWORKS,
+            context = paymentContext,
+            suffix = productId.toString()
         )
 
-        return cacheManager.getOrFetch(cacheKey) {
-            val result = apiClient.getPaymentProductNetworks(
-                sessionData.customerId,
-                productId.toString(),
-                paymentContext.toMap()
-            )
-
+        return productCacheManager.getOrFetchPersistent(
+            key = cacheKey,
+            type = PaymentProductNetworksResponse::class.java,
+            allowStale = true,
+            fetch = {
+                apiClient.getPaymentProductNetworks(
+                    sessionData.customerId,
+                    productId.toString(),
+                    paymentContext.toMap()
+                )
+            }
+        ) { result ->
             PaymentProductNetworksResponse(result.networks)
         }
     }
@@ -0,0 +1,27 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.services.interfaces
+
+import com.onlinepayments.sdk.client.android.domain.PaymentContextWithAmount
+import com.onlinepayments.sdk.client.android.domain.card.CardResolution
+import com.onlinepayments.sdk.client.android.domain.card.CardResolutionOptions
+
+internal interface ICardResolutionService {
+    /**
+     * Looks up the IIN details of [partialCreditCardNumber], and then retrieves the payment product details and the
+     * requested [options] at the same time.
+     */
+    suspend fun resolveCard(
+        partialCreditCardNumber: String,
+        paymentContext: PaymentContextWithAmount,
+        options: CardResolutionOptions
+    ): CardResolution
+}
@@ -16,6 +16,7 @@ import com.onlinepayments.sdk.client.android.domain.card.CardSource
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionResponse
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
+import kotlinx.coroutines.flow.Flow
 
 internal interface IClientService {
     suspend fun getIinDetails(
@@ -23,6 +24,17 @@ internal interface IClientService {
         paymentContext: PaymentContextWithAmount
     ): IinDetailsResponse
 
+    /**
+     * Looks up the IIN details of a stream of partial card numbers, as typed by the customer. Numbers are debounced
+     * by [debounceMillis], and only the result of the latest number is emitted. A failed lookup is emitted as a
+     * failure, without ending the flow. A provisional answer from the offline BIN ranges may precede the result.
+     */
+    fun getIinDetails(
+        partialCreditCardNumbers: Flow<String>,
+        paymentContext: PaymentContextWithAmount,
+        debounceMillis: Long
+    ): Flow<Result<IinDetailsResponse>>
+
     suspend fun getCurrencyConversionQuote(
         amountOfMoney: AmountOfMoney,
         cardSource: CardSource,
@@ -14,6 +14,7 @@ import com.onlinepayments.sdk.client.android.domain.PaymentContext
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.BasicPaymentProducts
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductsResult
 
 internal interface IPaymentProductService {
     suspend fun getBasicPaymentProducts(
@@ -25,6 +26,11 @@ internal interface IPaymentProductService {
         paymentContext: PaymentContext
     ): PaymentProduct
 
+    suspend fun getPaymentProducts(
+        productIds: List<Int>,
+        paymentContext: PaymentContext
+    ): PaymentProductsResult
+
     suspend fun getPaymentProductNetworks(
         productId: Int,
         paymentContext: PaymentContext
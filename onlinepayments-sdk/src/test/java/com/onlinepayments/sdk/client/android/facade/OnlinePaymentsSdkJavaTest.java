@@ -43,8 +43,6 @@ import com.onlinepayments.sdk.client.android.domain.paymentRequest.EncryptedRequ
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.PaymentRequest;
 import com.onlinepayments.sdk.client.android.domain.publicKey.PublicKeyResponse;
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse;
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto;
-import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory;
 import com.onlinepayments.sdk.client.android.infrastructure.providers.LoggerProvider;
 import com.onlinepayments.sdk.client.android.infrastructure.utils.Logger;
 import com.onlinepayments.sdk.client.android.testUtil.GsonHelperJava;
@@ -217,13 +215,11 @@ public class OnlinePaymentsSdkJavaTest {
 
     @Test
     public void testCreatePaymentRequest() {
-        PaymentProductDto paymentProductDto = GsonHelperJava.fromResourceJson(
+        PaymentProduct paymentProduct = GsonHelperJava.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto.class
+            PaymentProduct.class
         );
 
-        PaymentProduct paymentProduct = new PaymentProductFactory().createPaymentProduct(paymentProductDto);
-
         PaymentRequest request = new PaymentRequest(paymentProduct, null, false);
 
         request.setValue("cardNumber", "7822551678890142249");
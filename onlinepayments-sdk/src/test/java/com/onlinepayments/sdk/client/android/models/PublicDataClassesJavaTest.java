@@ -23,8 +23,6 @@ import com.onlinepayments.sdk.client.android.domain.configuration.SessionData;
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct;
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.CreditCardTokenRequest;
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.PaymentRequest;
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto;
-import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory;
 import com.onlinepayments.sdk.client.android.testUtil.GsonHelperJava;
 
 import org.junit.Test;
@@ -208,13 +206,11 @@ public class PublicDataClassesJavaTest {
 
     @Test
     public void testPaymentRequestConstruction() {
-        PaymentProductDto paymentProductDto = GsonHelperJava.fromResourceJson(
+        PaymentProduct paymentProduct = GsonHelperJava.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto.class
+            PaymentProduct.class
         );
 
-        PaymentProduct paymentProduct = new PaymentProductFactory().createPaymentProduct(paymentProductDto);
-
         PaymentRequest paymentRequest = new PaymentRequest(paymentProduct, null, false);
 
         assertNotNull(paymentRequest);
@@ -225,13 +221,11 @@ public class PublicDataClassesJavaTest {
 
     @Test
     public void testPaymentRequestSetValue() {
-        PaymentProductDto paymentProductDto = GsonHelperJava.fromResourceJson(
+        PaymentProduct paymentProduct = GsonHelperJava.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto.class
+            PaymentProduct.class
         );
 
-        PaymentProduct paymentProduct = new PaymentProductFactory().createPaymentProduct(paymentProductDto);
-
         PaymentRequest paymentRequest = new PaymentRequest(paymentProduct, null, false);
 
         paymentRequest.setValue("cardNumber", "4111111111111111");
@@ -243,13 +237,11 @@ public class PublicDataClassesJavaTest {
 
     @Test
     public void testPaymentRequestGetValues() {
-        PaymentProductDto paymentProductDto = GsonHelperJava.fromResourceJson(
+        PaymentProduct paymentProduct = GsonHelperJava.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto.class
+            PaymentProduct.class
         );
 
-        PaymentProduct paymentProduct = new PaymentProductFactory().createPaymentProduct(paymentProductDto);
-
         PaymentRequest paymentRequest = new PaymentRequest(paymentProduct, null, false);
 
         paymentRequest.setValue("cardNumber", "4111111111111111");
@@ -266,13 +258,11 @@ public class PublicDataClassesJavaTest {
 
     @Test
     public void testPaymentRequestSetTokenize() {
-        PaymentProductDto paymentProductDto = GsonHelperJava.fromResourceJson(
+        PaymentProduct paymentProduct = GsonHelperJava.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto.class
+            PaymentProduct.class
         );
 
-        PaymentProduct paymentProduct = new PaymentProductFactory().createPaymentProduct(paymentProductDto);
-
         PaymentRequest paymentRequest = new PaymentRequest(paymentProduct, null, false);
 
         assertFalse(paymentRequest.getTokenize());
@@ -11,6 +11,7 @@
 package com.onlinepayments.sdk.client.android.testUtil;
 
 import com.google.gson.Gson;
+import com.onlinepayments.sdk.client.android.infrastructure.json.ApiJson;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -18,7 +19,7 @@ import java.io.Reader;
 import java.util.Objects;
 
 public class GsonHelperJava {
-    private static final Gson gson = new Gson();
+    private static final Gson gson = ApiJson.INSTANCE.getGson();
 
     public static <T> T fromResourceJson(String resource, Class<T> classOfT) {
         try (Reader reader = new InputStreamReader(Objects.requireNonNull(GsonHelperJava.class.getClassLoader())
@@ -0,0 +1,91 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.domain.iin
+
+import com.onlinepayments.sdk.client.android.domain.exceptions.InvalidArgumentException
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataOutputStream
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+class BinRangeIndexTest {
+
+    private val index = BinRangeIndex(
+        starts = intArrayOf(222_100, 400_000, 510_000, 600_000, 650_000),
+        ends = intArrayOf(272_099, 499_999, 559_999, 609_999, 659_999),
+        paymentProductIds = intArrayOf(3, 1, 3, 117, 125)
+    )
+
+    @Test
+    fun `payment product is found from the first digit on`() {
+        assertEquals(1, index.getPaymentProductId("4"))
+        assertEquals(1, index.getPaymentProductId("411111"))
+        assertEquals(1, index.getPaymentProductId("4111111111111111"))
+        assertEquals(3, index.getPaymentProductId("51"))
+        assertEquals(3, index.getPaymentProductId("2221"))
+    }
+
+    @Test
+    fun `prefixes of ranges of different payment products give no payment product`() {
+        assertEquals(BinRangeIndex.NO_PAYMENT_PRODUCT, index.getPaymentProductId("6"))
+        assertEquals(117, index.getPaymentProductId("60"))
+        assertEquals(125, index.getPaymentProductId("65"))
+    }
+
+    @Test
+    fun `unknown or invalid card numbers give no payment product`() {
+        assertEquals(BinRangeIndex.NO_PAYMENT_PRODUCT, index.getPaymentProductId(""))
+        assertEquals(BinRangeIndex.NO_PAYMENT_PRODUCT, index.getPaymentProductId("9"))
+        assertEquals(BinRangeIndex.NO_PAYMENT_PRODUCT, index.getPaymentProductId("2220"))
+        assertEquals(BinRangeIndex.NO_PAYMENT_PRODUCT, index.getPaymentProductId("4x"))
+    }
+
+    @Test
+    fun `table is read from its binary form`() {
+        val read = BinRangeIndex.read(ByteArrayInputStream(table(0x42494E52, 400_000 to 499_999, 510_000 to 559_999)))
+
+        assertEquals(2, read.size)
+        assertEquals(1, read.getPaymentProductId("4"))
+        assertEquals(2, read.getPaymentProductId("55"))
+    }
+
+    @Test
+    fun `invalid tables are rejected`() {
+        assertFailsWith<InvalidArgumentException> {
+            BinRangeIndex.read(ByteArrayInputStream(table(0x12345678, 400_000 to 499_999)))
+        }
+        assertFailsWith<InvalidArgumentException> {
+            BinRangeIndex.read(ByteArrayInputStream(table(0x42494E52, 400_000 to 499_999, 450_000 to 559_999)))
+        }
+        assertFailsWith<InvalidArgumentException> {
+            BinRangeIndex.read(ByteArrayInputStream(table(0x42494E52, 400_000 to 499_999).copyOf(20)))
+        }
+    }
+
+    private fun table(magic: Int, vararg ranges: Pair<Int, Int>): ByteArray {
+        val bytes = ByteArrayOutputStream()
+
+        DataOutputStream(bytes).use { output ->
+            output.writeInt(magic)
+            output.writeInt(1)
+            output.writeInt(ranges.size)
+            ranges.forEachIndexed { index, (start, end) ->
+                output.writeInt(start)
+                output.writeInt(end)
+                output.writeInt(index + 1)
+            }
+        }
+
+        return bytes.toByteArray()
+    }
+}
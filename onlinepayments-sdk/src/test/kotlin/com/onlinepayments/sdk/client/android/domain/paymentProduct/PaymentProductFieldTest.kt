@@ -12,8 +12,6 @@ package com.onlinepayments.sdk.client.android.domain.paymentProduct
 
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductField
 import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleType
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductFieldDto
-import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory
 import com.onlinepayments.sdk.client.android.testUtil.GsonHelper
 import kotlin.test.BeforeTest
 import kotlin.test.Test
@@ -25,12 +23,10 @@ class PaymentProductFieldTest {
 
     @BeforeTest
     fun setUp() {
-        val dto = GsonHelper.fromResourceJson(
+        paymentProductField = GsonHelper.fromResourceJson(
             "paymentProductFieldCard.json",
-            PaymentProductFieldDto::class.java
+            PaymentProductField::class.java
         )
-
-        paymentProductField = PaymentProductFactory().createPaymentProductField(dto)
     }
 
     @Test
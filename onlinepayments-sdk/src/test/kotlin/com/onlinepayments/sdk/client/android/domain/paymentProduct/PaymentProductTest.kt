@@ -11,8 +11,6 @@
 package com.onlinepayments.sdk.client.android.domain.paymentProduct
 
 import com.onlinepayments.sdk.client.android.domain.Constants
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
-import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory
 import com.onlinepayments.sdk.client.android.testUtil.GsonHelper
 import kotlin.test.BeforeTest
 import kotlin.test.Test
@@ -25,12 +23,10 @@ class PaymentProductTest {
 
     @BeforeTest
     fun setUp() {
-        val dto = GsonHelper.fromResourceJson(
+        paymentProduct = GsonHelper.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto::class.java
+            PaymentProduct::class.java
         )
-
-        paymentProduct = PaymentProductFactory().createPaymentProduct(dto)
     }
 
     @Test
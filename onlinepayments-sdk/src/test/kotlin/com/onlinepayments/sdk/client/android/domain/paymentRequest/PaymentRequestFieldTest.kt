@@ -13,8 +13,6 @@ package com.onlinepayments.sdk.client.android.domain.paymentRequest
 import com.onlinepayments.sdk.client.android.domain.exceptions.InvalidArgumentException
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductField
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductFieldType
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductFieldDto
-import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory
 import com.onlinepayments.sdk.client.android.testUtil.GsonHelper
 import kotlin.test.BeforeTest
 import kotlin.test.Test
@@ -30,12 +28,10 @@ class PaymentRequestFieldTest {
 
     @BeforeTest
     fun setUp() {
-        val response = GsonHelper.fromResourceJson(
+        val definition = GsonHelper.fromResourceJson(
             "paymentProductFieldCard.json",
-            PaymentProductFieldDto::class.java
+            PaymentProductField::class.java
         )
-
-        val definition = PaymentProductFactory().createPaymentProductField(response)
         paymentRequestField = PaymentRequestField(definition, false)
     }
 
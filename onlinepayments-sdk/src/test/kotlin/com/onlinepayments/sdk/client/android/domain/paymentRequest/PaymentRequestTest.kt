@@ -13,7 +13,6 @@ package com.onlinepayments.sdk.client.android.domain.paymentRequest
 import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFile
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
 import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory
 import com.onlinepayments.sdk.client.android.testUtil.GsonHelper
 import kotlin.test.BeforeTest
@@ -32,13 +31,11 @@ class PaymentRequestTest {
 
     @BeforeTest
     fun setUp() {
-        val paymentProductResponse = GsonHelper.fromResourceJson(
+        paymentProduct = GsonHelper.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto::class.java
+            PaymentProduct::class.java
         )
 
-        paymentProduct = PaymentProductFactory().createPaymentProduct(paymentProductResponse)
-
         val accountOnFileResponse = GsonHelper.fromResourceJson(
             "accountOnFileVisa.json",
             AccountOnFileDto::class.java
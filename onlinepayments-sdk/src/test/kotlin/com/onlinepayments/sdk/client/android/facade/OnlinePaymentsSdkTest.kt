@@ -16,10 +16,10 @@ import com.onlinepayments.sdk.client.android.domain.AmountOfMoneyWithAmount
 import com.onlinepayments.sdk.client.android.domain.Constants
 import com.onlinepayments.sdk.client.android.domain.PaymentContext
 import com.onlinepayments.sdk.client.android.domain.PaymentContextWithAmount
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
 import com.onlinepayments.sdk.client.android.domain.configuration.SdkConfiguration
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.ConversionResultType
-import com.onlinepayments.sdk.client.android.domain.exceptions.IllegalStateSdkException
 import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
 import com.onlinepayments.sdk.client.android.domain.exceptions.SdkException
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailStatus
@@ -38,14 +38,17 @@ import io.mockk.mockkObject
 import io.mockk.unmockkAll
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.ExperimentalCoroutinesApi
-import kotlinx.coroutines.launch
+import kotlinx.coroutines.async
 import kotlinx.coroutines.test.StandardTestDispatcher
-import kotlinx.coroutines.test.advanceUntilIdle
 import kotlinx.coroutines.test.resetMain
+import kotlinx.coroutines.test.runCurrent
 import kotlinx.coroutines.test.runTest
 import kotlinx.coroutines.test.setMain
+import okhttp3.mockwebserver.Dispatcher
 import okhttp3.mockwebserver.MockResponse
 import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
 import kotlin.test.AfterTest
 import kotlin.test.BeforeTest
@@ -205,25 +208,42 @@ class OnlinePaymentsSDKTest {
     }
 
     @Test
-    fun testGetIinDetailsAlreadyInProgress() = runTest {
-        setMockServerResponse("normalIINResponseVisa.json", 200, 1000)
+    fun testGetIinDetailsConcurrentLookupsShareOneRequest() = runTest {
+        val json = GsonHelperJava.fromResourceJson("normalIINResponseVisa.json", JsonElement::class.java)
+        val requestReceived = CountDownLatch(1)
+        val releaseResponse = CountDownLatch(1)
+
+        mockWebServer.dispatcher = object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                requestReceived.countDown()
+                releaseResponse.await(5, TimeUnit.SECONDS)
+
+                return MockResponse().setBody(json.toString()).setResponseCode(200)
+            }
+        }
 
         val amountOfMoney = AmountOfMoneyWithAmount(1298L, "EUR")
         val paymentContext = PaymentContextWithAmount(amountOfMoney, "NL", isRecurring = false)
 
         val sdk = getSdk()
 
-        launch {
+        val first = async {
             sdk.getIinDetails("411111", paymentContext)
         }
-
-        advanceUntilIdle()
-
-        val exception = assertFailsWith<IllegalStateSdkException> {
+        val second = async {
             sdk.getIinDetails("411111", paymentContext)
         }
 
-        assertEquals("IIN lookup is already in progress", exception.message)
+        runCurrent()
+
+        // The response of the first lookup is held back until the second one has joined it
+        assertTrue(requestReceived.await(5, TimeUnit.SECONDS))
+        assertEquals(1L, sdk.getCacheMetrics().endpoints.getValue(ApiEndpoint.IIN_DETAILS).inFlightWaits)
+        releaseResponse.countDown()
+
+        assertEquals(IinDetailStatus.SUPPORTED, first.await().status)
+        assertEquals(IinDetailStatus.SUPPORTED, second.await().status)
+        assertEquals(1, mockWebServer.requestCount)
     }
 
     @Test
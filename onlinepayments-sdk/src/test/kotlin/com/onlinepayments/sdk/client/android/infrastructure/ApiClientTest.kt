@@ -10,26 +10,38 @@
 
 package com.onlinepayments.sdk.client.android.infrastructure
 
-import com.google.gson.GsonBuilder
 import com.onlinepayments.sdk.client.android.domain.AmountOfMoney
 import com.onlinepayments.sdk.client.android.domain.card.Card
 import com.onlinepayments.sdk.client.android.domain.card.CardSource
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.TimeoutConfiguration
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionRequest
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.Transaction
+import com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationException
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsRequest
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationRequest
+import com.onlinepayments.sdk.client.android.infrastructure.http.ApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IGoPayApi
+import com.onlinepayments.sdk.client.android.infrastructure.json.ApiJson
 import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeoutOrNull
+import okhttp3.Cache
 import okhttp3.OkHttpClient
 import okhttp3.mockwebserver.MockResponse
 import okhttp3.mockwebserver.MockWebServer
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
+import java.io.File
+import java.nio.file.Files
+import java.util.concurrent.TimeUnit
 import kotlin.test.AfterTest
 import kotlin.test.BeforeTest
 import kotlin.test.Test
 import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
 import kotlin.test.assertNotNull
+import kotlin.test.assertNull
 import kotlin.test.assertTrue
 
 class ApiClientTest {
@@ -42,12 +54,10 @@ class ApiClientTest {
         server = MockWebServer()
         server.start()
 
-        val gson = GsonBuilder().create()
-
         apiClient = Retrofit.Builder()
             .baseUrl(server.url("/"))
             .client(OkHttpClient.Builder().build())
-            .addConverterFactory(GsonConverterFactory.create(gson))
+            .addConverterFactory(GsonConverterFactory.create(ApiJson.gson))
             .build()
             .create(IGoPayApi::class.java)
     }
@@ -79,10 +89,10 @@ class ApiClientTest {
     }
 
     @Test
-    fun getPaymentProductReturnsDto() = runBlocking {
+    fun getPaymentProductReturnsProduct() = runBlocking {
         enqueueOkJson("cardPaymentProduct.json")
 
-        val dto = apiClient.getPaymentProduct(
+        val product = apiClient.getPaymentProduct(
             customerId = "customer123",
             productId = "302",
             params = mapOf("countryCode" to "NL", "locale" to "en_GB")
@@ -95,9 +105,9 @@ class ApiClientTest {
         assertTrue(request.path!!.contains("locale=en_GB"))
         assertTrue(request.path!!.contains("cacheBuster="))
 
-        assertNotNull(dto)
-        assertNotNull(dto.fields)
-        assertTrue(dto.fields.isNotEmpty())
+        assertNotNull(product)
+        assertNotNull(product.fields)
+        assertTrue(product.fields.isNotEmpty())
     }
 
     @Test
@@ -213,6 +223,99 @@ class ApiClientTest {
         assertEquals("/customer123/services/surchargecalculation", request.path)
     }
 
+    @Test
+    fun getPaymentProductNetworksWithoutCacheBustingRevalidatesCachedResponse() = runBlocking<Unit> {
+        val cacheDirectory = Files.createTempDirectory("http-cache").toFile()
+        val cachingClient = createCachingClient(cacheDirectory)
+        server.enqueue(
+            MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setHeader("Cache-Control", "no-cache")
+                .setHeader("ETag", "\"networks-v1\"")
+                .setBody(getJsonResource("paymentProductNetworks.json"))
+        )
+        server.enqueue(MockResponse().setResponseCode(304))
+
+        cachingClient.getPaymentProductNetworks("customer123", "302", mapOf("countryCode" to "NL"))
+        val revalidated = cachingClient.getPaymentProductNetworks("customer123", "302", mapOf("countryCode" to "NL"))
+
+        val first = server.takeRequest()
+        val second = server.takeRequest()
+        assertFalse(first.path!!.contains("cacheBuster="))
+        assertEquals("\"networks-v1\"", second.getHeader("If-None-Match"))
+        assertEquals(true, revalidated.networks?.isNotEmpty())
+
+        cacheDirectory.deleteRecursively()
+    }
+
+    @Test
+    fun getBasicPaymentProductsIsNeverStoredInTheHttpCache() = runBlocking<Unit> {
+        val cacheDirectory = Files.createTempDirectory("http-cache").toFile()
+        val cachingClient = createCachingClient(cacheDirectory)
+        repeat(2) {
+            server.enqueue(
+                MockResponse()
+                    .setResponseCode(200)
+                    .setHeader("Content-Type", "application/json")
+                    .setHeader("Cache-Control", "max-age=3600")
+                    .setHeader("ETag", "\"products-v1\"")
+                    .setBody(getJsonResource("basicPaymentProducts.json"))
+            )
+        }
+
+        cachingClient.getBasicPaymentProducts("customer123", mapOf("countryCode" to "NL"))
+        cachingClient.getBasicPaymentProducts("customer123", mapOf("countryCode" to "NL"))
+
+        val first = server.takeRequest()
+        val second = server.takeRequest()
+        assertEquals("no-store", first.getHeader("Cache-Control"))
+        assertTrue(first.path!!.contains("cacheBuster="))
+        assertNull(second.getHeader("If-None-Match"))
+
+        cacheDirectory.deleteRecursively()
+    }
+
+    @Test
+    fun getIinDetailsFailsWhenTheCallExceedsItsTimeBudget() = runBlocking<Unit> {
+        val client = ApiClient(
+            apiClient,
+            timeouts = TimeoutConfiguration(callTimeouts = mapOf(ApiEndpoint.IIN_DETAILS to 200L))
+        )
+        server.enqueue(MockResponse().setHeadersDelay(5, TimeUnit.SECONDS).setBody("{}"))
+
+        val start = System.nanoTime()
+        assertFailsWith<CommunicationException> {
+            client.getIinDetails("customer123", IinDetailsRequest("4567350000000000"))
+        }
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000)
+    }
+
+    @Test
+    fun cancellationOfTheCallerIsPropagated() = runBlocking<Unit> {
+        val client = ApiClient(apiClient, timeouts = TimeoutConfiguration())
+        server.enqueue(MockResponse().setHeadersDelay(5, TimeUnit.SECONDS).setBody("{}"))
+
+        val result = withTimeoutOrNull(200) {
+            client.getIinDetails("customer123", IinDetailsRequest("4567350000000000"))
+        }
+
+        assertNull(result)
+    }
+
+    private fun createCachingClient(cacheDirectory: File): ApiClient {
+        return ApiClient(
+            Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .client(OkHttpClient.Builder().cache(Cache(cacheDirectory, 1024 * 1024)).build())
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(IGoPayApi::class.java),
+            cacheBusting = false
+        )
+    }
+
     private fun enqueueOkJson(resourceName: String) {
         server.enqueue(
             MockResponse()
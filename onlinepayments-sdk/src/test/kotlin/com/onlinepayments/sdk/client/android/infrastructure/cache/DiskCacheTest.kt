@@ -0,0 +1,148 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
+import java.io.File
+import java.nio.file.Files
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class DiskCacheTest {
+
+    private lateinit var directory: File
+
+    @BeforeTest
+    fun setUp() {
+        directory = Files.createTempDirectory("disk-cache-test").toFile()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        directory.deleteRecursively()
+    }
+
+    @Test
+    fun `read returns value previously written`() {
+        val diskCache = createDiskCache()
+        val networks = PaymentProductNetworksResponse(arrayListOf("VISA", "MASTERCARD"))
+
+        diskCache.write("getPaymentProductNetworks-320-1000_NL_false_EUR", networks)
+        val result = diskCache.read(
+            "getPaymentProductNetworks-320-1000_NL_false_EUR",
+            PaymentProductNetworksResponse::class.java
+        )
+
+        assertNotNull(result)
+        assertEquals(networks, result)
+    }
+
+    @Test
+    fun `read returns null for unknown key`() {
+        val result = createDiskCache().read("unknown-key", PaymentProductNetworksResponse::class.java)
+
+        assertNull(result)
+    }
+
+    @Test
+    fun `entries are not shared between namespaces`() {
+        createDiskCache(namespace = "customer1")
+            .write("key", PaymentProductNetworksResponse(arrayListOf("VISA")))
+
+        val result = createDiskCache(namespace = "customer2")
+            .read("key", PaymentProductNetworksResponse::class.java)
+
+        assertNull(result)
+    }
+
+    @Test
+    fun `expired entries are discarded`() {
+        val diskCache = createDiskCache(ttlMillis = -1)
+        diskCache.write("key", PaymentProductNetworksResponse(arrayListOf("VISA")))
+
+        val result = diskCache.read("key", PaymentProductNetworksResponse::class.java)
+
+        assertNull(result)
+        assertTrue(directory.listFiles().isNullOrEmpty())
+    }
+
+    @Test
+    fun `corrupt entries are discarded`() {
+        val diskCache = createDiskCache()
+        diskCache.write("key", PaymentProductNetworksResponse(arrayListOf("VISA")))
+        directory.listFiles()!!.forEach { it.writeText("corrupt") }
+
+        val result = diskCache.read("key", PaymentProductNetworksResponse::class.java)
+
+        assertNull(result)
+        assertTrue(directory.listFiles().isNullOrEmpty())
+    }
+
+    @Test
+    fun `write evicts least recently used entries when exceeding max size`() {
+        val value = PaymentProductNetworksResponse(arrayListOf("VISA"))
+        createDiskCache().write("probe", value)
+        val entrySize = directory.listFiles()!!.single().length()
+        directory.listFiles()!!.forEach { it.delete() }
+
+        val diskCache = createDiskCache(maxBytes = entrySize * 2 + 10)
+        diskCache.write("key1", value)
+        directory.listFiles()!!.single().setLastModified(System.currentTimeMillis() - 60_000)
+        diskCache.write("key2", value)
+        diskCache.write("key3", value)
+
+        assertNull(diskCache.read("key1", PaymentProductNetworksResponse::class.java))
+        assertNotNull(diskCache.read("key2", PaymentProductNetworksResponse::class.java))
+        assertNotNull(diskCache.read("key3", PaymentProductNetworksResponse::class.java))
+    }
+
+    @Test
+    fun `concurrent writes of the same entry by separate instances leave one readable entry`() {
+        val writers = List(8) { index ->
+            Thread {
+                repeat(20) {
+                    createDiskCache().write("key", PaymentProductNetworksResponse(arrayListOf("VISA-$index")))
+                }
+            }
+        }
+
+        writers.forEach { it.start() }
+        writers.forEach { it.join() }
+
+        val result = createDiskCache().read("key", PaymentProductNetworksResponse::class.java)
+
+        assertNotNull(result)
+        assertEquals(1, directory.listFiles()?.size)
+    }
+
+    @Test
+    fun `clear removes all entries`() {
+        val diskCache = createDiskCache()
+        diskCache.write("key1", PaymentProductNetworksResponse(arrayListOf("VISA")))
+        diskCache.write("key2", PaymentProductNetworksResponse(arrayListOf("MASTERCARD")))
+
+        diskCache.clear()
+
+        assertNull(diskCache.read("key1", PaymentProductNetworksResponse::class.java))
+        assertNull(diskCache.read("key2", PaymentProductNetworksResponse::class.java))
+    }
+
+    private fun createDiskCache(
+        namespace: String = "customer|https://api.example.com",
+        maxBytes: Long = 1024 * 1024,
+        ttlMillis: Long = 60_000
+    ) = DiskCache(directory, namespace, maxBytes, ttlMillis)
+}
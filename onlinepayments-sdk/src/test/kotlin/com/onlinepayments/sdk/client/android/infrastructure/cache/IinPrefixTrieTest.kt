@@ -0,0 +1,84 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class IinPrefixTrieTest {
+
+    private val trie = IinPrefixTrie(maxPrefixes = 3)
+
+    @Test
+    fun `longest stored prefix is returned`() {
+        trie.add("411111")
+        trie.add("41111122")
+
+        assertEquals("411111", trie.longestPrefixOf("4111112"))
+        assertEquals("41111122", trie.longestPrefixOf("41111122"))
+        assertNull(trie.longestPrefixOf("41111"))
+        assertNull(trie.longestPrefixOf("555555"))
+    }
+
+    @Test
+    fun `removed prefix is no longer returned`() {
+        trie.add("411111")
+        trie.add("41111122")
+
+        trie.remove("41111122")
+
+        assertEquals("411111", trie.longestPrefixOf("41111122"))
+    }
+
+    @Test
+    fun `removing the last prefix prunes its nodes`() {
+        trie.add("411111")
+        trie.add("41111122")
+
+        trie.remove("41111122")
+        trie.remove("411111")
+
+        assertTrue(trie.isEmpty())
+    }
+
+    @Test
+    fun `removing a prefix keeps the nodes of longer prefixes`() {
+        trie.add("411111")
+        trie.add("41111122")
+
+        trie.remove("411111")
+
+        assertFalse(trie.isEmpty())
+        assertEquals("41111122", trie.longestPrefixOf("41111122"))
+    }
+
+    @Test
+    fun `prefixes with other characters than digits are ignored`() {
+        trie.add("4111 11")
+
+        assertNull(trie.longestPrefixOf("4111 11"))
+    }
+
+    @Test
+    fun `trie is emptied when it is full`() {
+        trie.add("411111")
+        trie.add("511111")
+        trie.add("611111")
+
+        trie.add("711111")
+
+        assertNull(trie.longestPrefixOf("411111"))
+        assertEquals("711111", trie.longestPrefixOf("7111112"))
+    }
+}
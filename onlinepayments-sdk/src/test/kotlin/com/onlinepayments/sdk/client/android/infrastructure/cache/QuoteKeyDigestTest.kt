@@ -0,0 +1,50 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.cache
+
+import com.onlinepayments.sdk.client.android.domain.card.Card
+import com.onlinepayments.sdk.client.android.domain.card.CardSource
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotEquals
+import kotlin.test.assertTrue
+
+class QuoteKeyDigestTest {
+
+    private val digest = QuoteKeyDigest()
+
+    @Test
+    fun `digits after the BIN do not change the suffix`() {
+        assertEquals(
+            digest.suffixOf(CardSource(Card("41111111", 1))),
+            digest.suffixOf(CardSource(Card("4111111111111111", 1)))
+        )
+    }
+
+    @Test
+    fun `BIN, payment product and token change the suffix`() {
+        val suffix = digest.suffixOf(CardSource(Card("41111111", 1)))
+
+        assertNotEquals(suffix, digest.suffixOf(CardSource(Card("41111112", 1))))
+        assertNotEquals(suffix, digest.suffixOf(CardSource(Card("41111111", 3))))
+        assertNotEquals(suffix, digest.suffixOf(CardSource("41111111")))
+    }
+
+    @Test
+    fun `suffix is a hash of fixed size`() {
+        val suffix = digest.suffixOf(CardSource(Card("4111111111111111", 1)))!!
+        val tokenSuffix = digest.suffixOf(CardSource("0123456789abcdef0123456789abcdef0123456789abcdef"))!!
+
+        assertEquals(32, suffix.length)
+        assertEquals(32, tokenSuffix.length)
+        assertTrue(suffix.all { it in "0123456789abcdef" })
+    }
+}
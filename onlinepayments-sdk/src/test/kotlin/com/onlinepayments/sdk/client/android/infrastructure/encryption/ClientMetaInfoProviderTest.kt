@@ -0,0 +1,80 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.encryption
+
+import android.content.Context
+import android.content.res.Configuration
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkObject
+import io.mockk.unmockkObject
+import io.mockk.verify
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+
+class ClientMetaInfoProviderTest {
+
+    private lateinit var context: Context
+    private lateinit var configuration: Configuration
+    private lateinit var provider: ClientMetaInfoProvider
+
+    @BeforeTest
+    fun setUp() {
+        configuration = mockk<Configuration>(relaxed = true).apply {
+            screenWidthDp = 411
+            screenHeightDp = 891
+            densityDpi = 420
+        }
+        context = mockk(relaxed = true)
+        every { context.resources.configuration } returns configuration
+
+        mockkObject(MetadataUtil)
+        every { MetadataUtil.getMetadata(any(), any(), any()) } returns mapOf("key" to "value")
+        every { MetadataUtil.getBase64EncodedMetadata(any()) } returns "encoded-meta"
+
+        provider = ClientMetaInfoProvider(context, "TestApp/1.0.0", "AndroidSDK/2.5.0")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        unmockkObject(MetadataUtil)
+    }
+
+    @Test
+    fun `encoded is built once while the display does not change`() {
+        assertEquals("encoded-meta", provider.encoded)
+        assertEquals("encoded-meta", provider.encoded)
+
+        verify(exactly = 1) { MetadataUtil.getMetadata(context, "TestApp/1.0.0", "AndroidSDK/2.5.0") }
+    }
+
+    @Test
+    fun `encoded is rebuilt after the screen size changes`() {
+        provider.encoded
+
+        configuration.screenWidthDp = 891
+        configuration.screenHeightDp = 411
+        every { MetadataUtil.getBase64EncodedMetadata(any()) } returns "rotated-meta"
+
+        assertEquals("rotated-meta", provider.encoded)
+        verify(exactly = 2) { MetadataUtil.getMetadata(any(), any(), any()) }
+    }
+
+    @Test
+    fun `encoded is null when there is no metadata`() {
+        every { MetadataUtil.getMetadata(any(), any(), any()) } returns emptyMap()
+
+        assertNull(provider.encoded)
+    }
+}
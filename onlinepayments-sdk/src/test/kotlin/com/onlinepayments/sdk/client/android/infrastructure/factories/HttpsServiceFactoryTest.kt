@@ -18,6 +18,7 @@ import com.onlinepayments.sdk.client.android.mocks.MockContext
 import io.mockk.every
 import io.mockk.mockkObject
 import io.mockk.unmockkObject
+import io.mockk.verify
 import kotlinx.coroutines.test.runTest
 import okhttp3.mockwebserver.MockResponse
 import okhttp3.mockwebserver.MockWebServer
@@ -158,4 +159,32 @@ class HttpsServiceFactoryTest {
 
         assertNull(metadataHeader)
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `createApiService builds X-GCS-ClientMetaInfo once for all requests`() = runTest {
+        every { MetadataUtil.getMetadata(any(), any(), any()) } returns mapOf("key" to "value")
+        every { MetadataUtil.getBase64EncodedMetadata(any()) } returns "encoded-meta"
+
+        repeat(2) {
+            mockWebServer.enqueue(
+                MockResponse()
+                    .setResponseCode(200)
+                    .setBody("""{"paymentProducts": []}""")
+            )
+        }
+
+        val apiService = HttpServiceFactory.createApiService(
+            configuration = sdkConfiguration,
+            sessionData = sessionData,
+            context = context,
+            apiLogger = null
+        )
+
+        apiService.getBasicPaymentProducts("test-customer-456", emptyMap())
+        apiService.getBasicPaymentProducts("test-customer-456", emptyMap())
+
+        assertTrue(mockWebServer.takeRequest().getHeader("X-GCS-ClientMetaInfo") == "encoded-meta")
+        assertTrue(mockWebServer.takeRequest().getHeader("X-GCS-ClientMetaInfo") == "encoded-meta")
+        verify(exactly = 1) { MetadataUtil.getMetadata(any(), any(), any()) }
+    }
+}
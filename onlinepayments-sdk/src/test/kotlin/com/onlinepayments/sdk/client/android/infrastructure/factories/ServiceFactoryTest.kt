@@ -11,14 +11,24 @@
 package com.onlinepayments.sdk.client.android.infrastructure.factories
 
 import android.content.Context
+import com.onlinepayments.sdk.client.android.domain.AmountOfMoney
+import com.onlinepayments.sdk.client.android.domain.PaymentContext
+import com.onlinepayments.sdk.client.android.domain.configuration.CacheConfiguration
 import com.onlinepayments.sdk.client.android.domain.configuration.SdkConfiguration
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
+import com.onlinepayments.sdk.client.android.testUtil.GsonHelper
+import io.mockk.coEvery
+import io.mockk.coVerify
 import io.mockk.mockk
+import kotlinx.coroutines.test.runTest
 import kotlin.test.BeforeTest
 import kotlin.test.Test
 import kotlin.test.assertNotNull
+import kotlin.test.assertNotSame
 import kotlin.test.assertSame
+import kotlin.test.assertTrue
 
 class ServiceFactoryTest {
     private lateinit var context: Context
@@ -156,4 +166,106 @@ class ServiceFactoryTest {
 
         assertSame(first, second, "Same instance should be returned")
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `productCacheManager is the session cache by default`() {
+        val factory = ServiceFactory(
+            ServiceFactoryConfiguration(
+                sessionData = sessionData,
+                configuration = configuration,
+                context = context,
+                apiClient = apiClient
+            )
+        )
+
+        assertSame(factory.cacheManager, factory.productCacheManager)
+    }
+
+    @Test
+    fun `productCacheManager is shared between sessions of the same merchant when enabled`() {
+        val sharedConfiguration = configuration.copy(
+            cacheConfiguration = CacheConfiguration(shareAcrossSessions = true)
+        )
+        val otherSession = sessionData.copy(clientSessionId = "session789")
+
+        val first = ServiceFactory(
+            ServiceFactoryConfiguration(
+                sessionData = sessionData,
+                configuration = sharedConfiguration,
+                context = context,
+                apiClient = apiClient
+            )
+        )
+        val second = ServiceFactory(
+            ServiceFactoryConfiguration(
+                sessionData = otherSession,
+                configuration = sharedConfiguration,
+                context = context,
+                apiClient = apiClient
+            )
+        )
+
+        assertSame(first.productCacheManager, second.productCacheManager)
+        assertNotSame(first.cacheManager, second.cacheManager)
+    }
+
+    @Test
+    fun `productCacheManager is not shared between merchants`() {
+        val sharedConfiguration = configuration.copy(
+            cacheConfiguration = CacheConfiguration(shareAcrossSessions = true)
+        )
+        val otherMerchant = sessionData.copy(customerId = "customer999")
+
+        val first = ServiceFactory(
+            ServiceFactoryConfiguration(
+                sessionData = sessionData,
+                configuration = sharedConfiguration,
+                context = context,
+                apiClient = apiClient
+            )
+        )
+        val second = ServiceFactory(
+            ServiceFactoryConfiguration(
+                sessionData = otherMerchant,
+                configuration = sharedConfiguration,
+                context = context,
+                apiClient = apiClient
+            )
+        )
+
+        assertNotSame(first.productCacheManager, second.productCacheManager)
+    }
+
+    @Test
+    fun `sessions sharing product caches keep their own accounts on file`() = runTest {
+        val sharedConfiguration = configuration.copy(
+            cacheConfiguration = CacheConfiguration(shareAcrossSessions = true)
+        )
+        val paymentContext = PaymentContext(AmountOfMoney(100L, "EUR"), "NL", false)
+        val productsWithAccounts = GsonHelper.fromResourceJson(
+            "basicPaymentProducts.json",
+            BasicPaymentProductsDto::class.java
+        )
+        val sessionApiClients = listOf(productsWithAccounts, productsWithAccounts.withoutAccountsOnFile()).map {
+            mockk<IApiClient> { coEvery { getBasicPaymentProducts(any(), any()) } returns it }
+        }
+        val (first, second) = sessionApiClients.mapIndexed { index, sessionApiClient ->
+            ServiceFactory(
+                ServiceFactoryConfiguration(
+                    sessionData = sessionData.copy(clientSessionId = "shared-session-$index"),
+                    configuration = sharedConfiguration,
+                    context = context,
+                    apiClient = sessionApiClient
+                )
+            )
+        }
+
+        val firstProducts = first.paymentProductService.getBasicPaymentProducts(paymentContext)
+        val secondProducts = second.paymentProductService.getBasicPaymentProducts(paymentContext)
+
+        assertTrue(firstProducts.accountsOnFile.isNotEmpty())
+        assertTrue(secondProducts.accountsOnFile.isEmpty())
+        assertTrue(secondProducts.paymentProducts.all { it.accountsOnFile.isEmpty() })
+        coVerify(exactly = 1) { sessionApiClients[1].getBasicPaymentProducts(any(), any()) }
+    }
+}
@@ -10,12 +10,33 @@
 
 package com.onlinepayments.sdk.client.android.infrastructure.helpers
 
+import android.content.ComponentCallbacks2
 import com.onlinepayments.sdk.client.android.domain.AmountOfMoney
 import com.onlinepayments.sdk.client.android.domain.PaymentContext
+import com.onlinepayments.sdk.client.android.domain.cache.CacheMetricsSnapshot
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.CachePolicy
+import com.onlinepayments.sdk.client.android.domain.exceptions.ApiError
+import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
+import com.onlinepayments.sdk.client.android.facade.listeners.CacheMetricsListener
+import com.onlinepayments.sdk.client.android.infrastructure.cache.CacheEntryWeigher
+import com.onlinepayments.sdk.client.android.infrastructure.cache.CacheKey
+import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPersistentCache
 import com.onlinepayments.sdk.client.android.infrastructure.utils.CacheManager
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.test.StandardTestDispatcher
+import kotlinx.coroutines.test.advanceUntilIdle
+import kotlinx.coroutines.test.runTest
+import java.io.IOException
 import kotlin.test.BeforeTest
 import kotlin.test.Test
 import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
 import kotlin.test.assertFalse
 import kotlin.test.assertNotEquals
 import kotlin.test.assertNotNull
@@ -39,12 +60,12 @@ class CacheManagerTest {
         )
 
         val cacheKey = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context,
             suffix = "visa"
         )
 
-        assertEquals("paymentProduct-1000_US_false_USD_visa", cacheKey)
+        assertEquals("getPaymentProduct-1000_US_false_USD_visa", cacheKey.toString())
     }
 
     @Test
@@ -57,12 +78,12 @@ class CacheManagerTest {
         )
 
         val cacheKey = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context,
             suffix = null
         )
 
-        assertEquals("paymentProduct-2500_NL_true_EUR", cacheKey)
+        assertEquals("getPaymentProduct-2500_NL_true_EUR", cacheKey.toString())
     }
 
     @Test
@@ -73,33 +94,58 @@ class CacheManagerTest {
         )
 
         val cacheKey = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context,
             suffix = "test"
         )
 
-        assertEquals("paymentProduct-US_false_EUR_test", cacheKey)
+        assertEquals("getPaymentProduct-US_false_EUR_test", cacheKey.toString())
+    }
+
+    @Test
+    fun `createCacheKeyFromContext reflects changes to the payment context`() {
+        val context = PaymentContext(
+            amountOfMoney = AmountOfMoney(1000L, "EUR"),
+            countryCode = "NL",
+        )
+
+        val before = cacheManager.createCacheKeyFromContext(ApiEndpoint.PAYMENT_PRODUCTS, context)
+        context.countryCode = "BE"
+        val after = cacheManager.createCacheKeyFromContext(ApiEndpoint.PAYMENT_PRODUCTS, context)
+
+        assertNotEquals(before, after)
+        assertEquals("getPaymentProducts-1000_BE_false_EUR", after.toString())
+    }
+
+    @Test
+    fun `cache keys of different endpoints are not equal`() {
+        val context = PaymentContext(AmountOfMoney(1000L, "EUR"), "NL")
+
+        val productKey = cacheManager.createCacheKeyFromContext(ApiEndpoint.PAYMENT_PRODUCT, context, "1")
+        val networksKey = cacheManager.createCacheKeyFromContext(ApiEndpoint.PAYMENT_PRODUCT_NETWORKS, context, "1")
+
+        assertNotEquals(productKey, networksKey)
     }
 
     @Test
     fun `hasCache returns false for non-existent key`() {
-        val result = cacheManager.hasCache("non-existent-key")
+        val result = cacheManager.hasCache(testKey("non-existent-key"))
 
         assertFalse(result)
     }
 
     @Test
     fun `hasCache returns true for existing key`() {
-        cacheManager.set("test-key", "test-value")
+        cacheManager.set(testKey("test-key"), "test-value")
 
-        val result = cacheManager.hasCache("test-key")
+        val result = cacheManager.hasCache(testKey("test-key"))
 
         assertTrue(result)
     }
 
     @Test
     fun `set and get stores and retrieves string value`() {
-        val key = "string-key"
+        val key = testKey("string-key")
         val value = "test-string"
 
         cacheManager.set(key, value)
@@ -112,7 +158,7 @@ class CacheManagerTest {
     fun `set and get stores and retrieves complex object`() {
         data class TestObject(val id: String, val name: String)
 
-        val key = "object-key"
+        val key = testKey("object-key")
         val value = TestObject("123", "Test")
 
         cacheManager.set(key, value)
@@ -125,14 +171,14 @@ class CacheManagerTest {
 
     @Test
     fun `get returns null for non-existent key`() {
-        val result = cacheManager.get<String>("non-existent")
+        val result = cacheManager.get<String>(testKey("non-existent"))
 
         assertNull(result)
     }
 
     @Test
     fun `set overwrites existing value`() {
-        val key = "overwrite-key"
+        val key = testKey("overwrite-key")
         cacheManager.set(key, "original-value")
 
         cacheManager.set(key, "new-value")
@@ -143,16 +189,16 @@ class CacheManagerTest {
 
     @Test
     fun `clear removes all cached items`() {
-        cacheManager.set("key1", "value1")
-        cacheManager.set("key2", "value2")
-        cacheManager.set("key3", "value3")
+        cacheManager.set(testKey("key1"), "value1")
+        cacheManager.set(testKey("key2"), "value2")
+        cacheManager.set(testKey("key3"), "value3")
 
         cacheManager.clear()
 
-        assertFalse(cacheManager.hasCache("key1"))
-        assertFalse(cacheManager.hasCache("key2"))
-        assertFalse(cacheManager.hasCache("key3"))
-        assertNull(cacheManager.get<String>("key1"))
+        assertFalse(cacheManager.hasCache(testKey("key1")))
+        assertFalse(cacheManager.hasCache(testKey("key2")))
+        assertFalse(cacheManager.hasCache(testKey("key3")))
+        assertNull(cacheManager.get<String>(testKey("key1")))
     }
 
     @Test
@@ -176,20 +222,20 @@ class CacheManagerTest {
         )
 
         val cacheKey1 = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context1,
             suffix = "visa"
         )
 
         val cacheKey2 = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context2,
             suffix = "visa"
         )
 
 
         assertEquals(cacheKey1, cacheKey2)
-        assertEquals("paymentProduct-1000_US_false_USD_visa", cacheKey1)
+        assertEquals("getPaymentProduct-1000_US_false_USD_visa", cacheKey1.toString())
     }
 
     @Test
@@ -216,13 +262,13 @@ class CacheManagerTest {
         val testValue = "cached-product-data"
 
         val cacheKey1 = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context1
         )
         cacheManager.set(cacheKey1, testValue)
 
         val cacheKey2 = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context2
         )
         val retrievedValue = cacheManager.get<String>(cacheKey2)
@@ -252,12 +298,12 @@ class CacheManagerTest {
         )
 
         val cacheKey1 = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context1
         )
 
         val cacheKey2 = cacheManager.createCacheKeyFromContext(
-            prefix = "paymentProduct",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context2
         )
 
@@ -289,14 +335,14 @@ class CacheManagerTest {
         val product = PaymentProduct("123", "Visa")
 
         val key1 = cacheManager.createCacheKeyFromContext(
-            prefix = "product",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context1,
             suffix = "visa"
         )
         cacheManager.set(key1, product)
 
         val key2 = cacheManager.createCacheKeyFromContext(
-            prefix = "product",
+            endpoint = ApiEndpoint.PAYMENT_PRODUCT,
             context = context2,
             suffix = "visa"
         )
@@ -308,4 +354,484 @@ class CacheManagerTest {
         assertEquals(key1, key2)
         assertTrue(cacheManager.hasCache(key2))
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `set evicts least recently used entry when cache is full`() {
+        val boundedCache = CacheManager(maxSize = 3)
+        boundedCache.set(testKey("key1"), "value1")
+        boundedCache.set(testKey("key2"), "value2")
+        boundedCache.set(testKey("key3"), "value3")
+
+        // Reading key1 makes key2 the least recently used entry
+        boundedCache.get<String>(testKey("key1"))
+        boundedCache.set(testKey("key4"), "value4")
+
+        assertTrue(boundedCache.hasCache(testKey("key1")))
+        assertFalse(boundedCache.hasCache(testKey("key2")))
+        assertTrue(boundedCache.hasCache(testKey("key3")))
+        assertTrue(boundedCache.hasCache(testKey("key4")))
+    }
+
+    @Test
+    fun `overwriting an entry does not evict other entries`() {
+        val boundedCache = CacheManager(maxSize = 2)
+        boundedCache.set(testKey("key1"), "value1")
+        boundedCache.set(testKey("key2"), "value2")
+
+        boundedCache.set(testKey("key2"), "updated-value2")
+
+        assertEquals("value1", boundedCache.get<String>(testKey("key1")))
+        assertEquals("updated-value2", boundedCache.get<String>(testKey("key2")))
+    }
+
+    @Test
+    fun `endpoint policy ttl only applies to that endpoint`() {
+        val policyCache = CacheManager(
+            policies = mapOf(ApiEndpoint.IIN_DETAILS to CachePolicy(ttlMillis = -1, maxEntries = 10))
+        )
+        policyCache.set(testKey("411111", ApiEndpoint.IIN_DETAILS), "iin")
+        policyCache.set(testKey("1"), "product")
+
+        assertFalse(policyCache.hasCache(testKey("411111", ApiEndpoint.IIN_DETAILS)))
+        assertTrue(policyCache.hasCache(testKey("1")))
+    }
+
+    @Test
+    fun `endpoint policy limits the number of entries of that endpoint`() {
+        val policyCache = CacheManager(
+            policies = mapOf(ApiEndpoint.IIN_DETAILS to CachePolicy(ttlMillis = 60_000, maxEntries = 1))
+        )
+        policyCache.set(testKey("411111", ApiEndpoint.IIN_DETAILS), "first")
+        policyCache.set(testKey("522222", ApiEndpoint.IIN_DETAILS), "second")
+        policyCache.set(testKey("products", ApiEndpoint.PAYMENT_PRODUCTS), "products")
+
+        assertFalse(policyCache.hasCache(testKey("411111", ApiEndpoint.IIN_DETAILS)))
+        assertTrue(policyCache.hasCache(testKey("522222", ApiEndpoint.IIN_DETAILS)))
+        assertTrue(policyCache.hasCache(testKey("products", ApiEndpoint.PAYMENT_PRODUCTS)))
+    }
+
+    @Test
+    fun `full cache evicts entries with the lowest eviction weight first`() {
+        val boundedCache = CacheManager(maxSize = 2)
+        boundedCache.set(testKey("products", ApiEndpoint.PAYMENT_PRODUCTS), "products")
+        boundedCache.set(testKey("411111", ApiEndpoint.IIN_DETAILS), "iin")
+        boundedCache.set(testKey("1"), "product")
+
+        assertTrue(boundedCache.hasCache(testKey("products", ApiEndpoint.PAYMENT_PRODUCTS)))
+        assertTrue(boundedCache.hasCache(testKey("1")))
+        assertFalse(boundedCache.hasCache(testKey("411111", ApiEndpoint.IIN_DETAILS)))
+    }
+
+    @Test
+    fun `getOrFetch coalesces concurrent fetches for the same key`() = runTest {
+        var fetchCount = 0
+
+        val results = List(5) {
+            async {
+                cacheManager.getOrFetch(testKey("shared-key")) {
+                    fetchCount++
+                    delay(100)
+                    "shared-value"
+                }
+            }
+        }.awaitAll()
+
+        assertEquals(1, fetchCount)
+        assertTrue(results.all { it == "shared-value" })
+        assertEquals("shared-value", cacheManager.get<String>(testKey("shared-key")))
+    }
+
+    @Test
+    fun `getOrFetch propagates failure to all waiters without caching it`() = runTest {
+        var fetchCount = 0
+
+        val results = List(3) {
+            async {
+                runCatching {
+                    cacheManager.getOrFetch<String>(testKey("failing-key")) {
+                        fetchCount++
+                        delay(100)
+                        throw IllegalStateException("fetch failed")
+                    }
+                }
+            }
+        }.awaitAll()
+
+        assertEquals(1, fetchCount)
+        assertTrue(results.all { it.exceptionOrNull() is IllegalStateException })
+        assertFalse(cacheManager.hasCache(testKey("failing-key")))
+
+        val recovered = cacheManager.getOrFetch(testKey("failing-key")) { "recovered-value" }
+
+        assertEquals("recovered-value", recovered)
+    }
+
+    @Test
+    fun `getOrFetchPersistent fetches when no persistent cache is configured`() = runTest {
+        val result = cacheManager.getOrFetchPersistent(
+            testKey("persistent-key"),
+            String::class.java,
+            fetch = { "fetched-value" }
+        ) { it.uppercase() }
+
+        assertEquals("FETCHED-VALUE", result)
+        assertEquals("FETCHED-VALUE", cacheManager.get<String>(testKey("persistent-key")))
+    }
+
+    @Test
+    fun `getOrFetchPersistent returns persisted value without fetching`() = runTest {
+        val persistentKey = testKey("persistent-key").toString()
+        val persistentCache = mockk<IPersistentCache>(relaxed = true)
+        every { persistentCache.read(persistentKey, String::class.java) } returns "persisted-value"
+        val tieredCache = CacheManager(persistentCache = persistentCache)
+        var fetchCount = 0
+
+        val result = tieredCache.getOrFetchPersistent(
+            testKey("persistent-key"),
+            String::class.java,
+            fetch = {
+                fetchCount++
+                "fetched-value"
+            }
+        ) { it }
+
+        assertEquals("persisted-value", result)
+        assertEquals(0, fetchCount)
+    }
+
+    @Test
+    fun `getOrFetchPersistent persists the persistable part of the fetched value on miss`() = runTest {
+        val persistentCache = mockk<IPersistentCache>(relaxed = true)
+        every { persistentCache.read(testKey("persistent-key").toString(), String::class.java) } returns null
+        val tieredCache = CacheManager(persistentCache = persistentCache)
+
+        val result = tieredCache.getOrFetchPersistent(
+            testKey("persistent-key"),
+            String::class.java,
+            persistable = { it.substringBefore("+") },
+            fetch = { "fetched-value+session-data" }
+        ) { it }
+
+        assertEquals("fetched-value+session-data", result)
+        verify(exactly = 1) { persistentCache.write(testKey("persistent-key").toString(), "fetched-value") }
+    }
+
+    @Test
+    fun `getOrFetchPersistent refreshes a persisted value in the background`() = runTest {
+        val persistentKey = testKey("persistent-key").toString()
+        val persistentCache = mockk<IPersistentCache>(relaxed = true)
+        every { persistentCache.read(persistentKey, String::class.java) } returns "persisted-value"
+        val tieredCache = CacheManager(
+            persistentCache = persistentCache,
+            refreshScope = this,
+            ioDispatcher = StandardTestDispatcher(testScheduler)
+        )
+        var fetchCount = 0
+
+        val result = tieredCache.getOrFetchPersistent(
+            testKey("persistent-key"),
+            String::class.java,
+            fetch = {
+                fetchCount++
+                "fetched-value"
+            }
+        ) { it }
+        advanceUntilIdle()
+
+        assertEquals("persisted-value", result)
+        // The persisted value was still fresh in memory; the refresh replaced it anyway
+        assertEquals(1, fetchCount)
+        assertEquals("fetched-value", tieredCache.get<String>(testKey("persistent-key")))
+        verify(exactly = 1) { persistentCache.write(persistentKey, "fetched-value") }
+    }
+
+    @Test
+    fun `getOrFetchPersistent with networkFirst does not read a persisted value when the fetch succeeds`() = runTest {
+        val persistentKey = testKey("persistent-key").toString()
+        val persistentCache = mockk<IPersistentCache>(relaxed = true)
+        every { persistentCache.read(persistentKey, String::class.java) } returns "persisted-value"
+        val tieredCache = CacheManager(
+            persistentCache = persistentCache,
+            ioDispatcher = StandardTestDispatcher(testScheduler)
+        )
+
+        val result = tieredCache.getOrFetchPersistent(
+            testKey("persistent-key"),
+            String::class.java,
+            networkFirst = true,
+            fetch = { "fetched-value" }
+        ) { it }
+
+        assertEquals("fetched-value", result)
+        verify(exactly = 0) { persistentCache.read(any(), String::class.java) }
+        verify(exactly = 1) { persistentCache.write(persistentKey, "fetched-value") }
+    }
+
+    @Test
+    fun `getOrFetchPersistent with networkFirst falls back to a persisted value without caching it`() = runTest {
+        val persistentKey = testKey("persistent-key").toString()
+        val persistentCache = mockk<IPersistentCache>(relaxed = true)
+        every { persistentCache.read(persistentKey, String::class.java) } returns "persisted-value"
+        val tieredCache = CacheManager(
+            persistentCache = persistentCache,
+            ioDispatcher = StandardTestDispatcher(testScheduler)
+        )
+
+        val result = tieredCache.getOrFetchPersistent(
+            testKey("persistent-key"),
+            String::class.java,
+            networkFirst = true,
+            fetch = { throw IOException("offline") }
+        ) { it }
+
+        assertEquals("persisted-value", result)
+        assertNull(tieredCache.get<String>(testKey("persistent-key")))
+    }
+
+    @Test
+    fun `getOrFetchPersistent with networkFirst does not hide client errors behind a persisted value`() = runTest {
+        val persistentCache = mockk<IPersistentCache>(relaxed = true)
+        every { persistentCache.read(any(), String::class.java) } returns "persisted-value"
+        val tieredCache = CacheManager(
+            persistentCache = persistentCache,
+            ioDispatcher = StandardTestDispatcher(testScheduler)
+        )
+
+        assertFailsWith<ResponseException> {
+            tieredCache.getOrFetchPersistent(
+                testKey("persistent-key"),
+                String::class.java,
+                networkFirst = true,
+                fetch = { throw ResponseException(httpStatusCode = 404, message = "Not found", apiError = ApiError()) }
+            ) { it }
+        }
+    }
+
+    @Test
+    fun `getOrFetch serves stale value and refreshes it in the background`() = runTest {
+        // A negative TTL makes every entry expire immediately
+        val staleCache = CacheManager(ttlMillis = -1, maxStalenessMillis = 60_000, refreshScope = this)
+        staleCache.set(testKey("stale-key"), "old-value")
+
+        val result = staleCache.getOrFetch(testKey("stale-key"), allowStale = true) { "new-value" }
+        advanceUntilIdle()
+        val refreshed = staleCache.getOrFetch(testKey("stale-key"), allowStale = true) { "newer-value" }
+        advanceUntilIdle()
+
+        assertEquals("old-value", result)
+        assertEquals("new-value", refreshed)
+    }
+
+    @Test
+    fun `refresh of a stale value fetches and overwrites the persisted value`() = runTest {
+        val persistentKey = testKey("persistent-key").toString()
+        val persistentCache = mockk<IPersistentCache>(relaxed = true)
+        every { persistentCache.read(persistentKey, String::class.java) } returns "persisted-value"
+        val staleCache = CacheManager(
+            ttlMillis = -1,
+            persistentCache = persistentCache,
+            maxStalenessMillis = 60_000,
+            refreshScope = this,
+            ioDispatcher = StandardTestDispatcher(testScheduler)
+        )
+        var fetchCount = 0
+        val getValue = suspend {
+            staleCache.getOrFetchPersistent(
+                testKey("persistent-key"),
+                String::class.java,
+                allowStale = true,
+                fetch = { "fetched-value-${++fetchCount}" }
+            ) { it }
+        }
+
+        val persisted = getValue()
+        advanceUntilIdle()
+        val stale = getValue()
+        advanceUntilIdle()
+        val refreshed = getValue()
+        advanceUntilIdle()
+
+        assertEquals("persisted-value", persisted)
+        assertEquals("fetched-value-1", stale)
+        assertEquals("fetched-value-2", refreshed)
+        verify(exactly = 1) { persistentCache.read(persistentKey, String::class.java) }
+        verify(exactly = 1) { persistentCache.write(persistentKey, "fetched-value-2") }
+    }
+
+    @Test
+    fun `getOrFetch does not serve stale value when not allowed`() = runTest {
+        val staleCache = CacheManager(ttlMillis = -1, maxStalenessMillis = 60_000, refreshScope = this)
+        staleCache.set(testKey("stale-key"), "old-value")
+
+        val result = staleCache.getOrFetch(testKey("stale-key")) { "new-value" }
+
+        assertEquals("new-value", result)
+    }
+
+    @Test
+    fun `getOrFetch fetches synchronously when value exceeds maximum staleness`() = runTest {
+        val staleCache = CacheManager(ttlMillis = -1, maxStalenessMillis = 0, refreshScope = this)
+        staleCache.set(testKey("stale-key"), "old-value")
+
+        val result = staleCache.getOrFetch(testKey("stale-key"), allowStale = true) { "new-value" }
+
+        assertEquals("new-value", result)
+    }
+
+    @Test
+    fun `metricsSnapshot counts hits, misses and in-flight waits per endpoint`() = runTest {
+        List(3) {
+            async {
+                cacheManager.getOrFetch(testKey("411111", ApiEndpoint.IIN_DETAILS)) {
+                    delay(100)
+                    "iin"
+                }
+            }
+        }.awaitAll()
+        cacheManager.getOrFetch(testKey("411111", ApiEndpoint.IIN_DETAILS)) { "unused" }
+
+        val metrics = cacheManager.metricsSnapshot().endpoints.getValue(ApiEndpoint.IIN_DETAILS)
+
+        assertEquals(1, metrics.hits)
+        assertEquals(3, metrics.misses)
+        assertEquals(2, metrics.inFlightWaits)
+        assertEquals(1, metrics.loadTimes.loads)
+        assertEquals(0, cacheManager.metricsSnapshot().endpoints.getValue(ApiEndpoint.PAYMENT_PRODUCT).misses)
+    }
+
+    @Test
+    fun `metricsSnapshot counts evictions and expirations`() {
+        val policyCache = CacheManager(
+            policies = mapOf(ApiEndpoint.IIN_DETAILS to CachePolicy(ttlMillis = -1, maxEntries = 1))
+        )
+        policyCache.set(testKey("411111", ApiEndpoint.IIN_DETAILS), "first")
+        policyCache.set(testKey("522222", ApiEndpoint.IIN_DETAILS), "second")
+        policyCache.get<String>(testKey("522222", ApiEndpoint.IIN_DETAILS))
+
+        val metrics = policyCache.metricsSnapshot().endpoints.getValue(ApiEndpoint.IIN_DETAILS)
+
+        assertEquals(1, metrics.evictions)
+        assertEquals(1, metrics.expirations)
+    }
+
+    @Test
+    fun `metrics listeners receive a snapshot after every load`() = runTest {
+        val snapshots = mutableListOf<CacheMetricsSnapshot>()
+        val otherSnapshots = mutableListOf<CacheMetricsSnapshot>()
+        val listener = CacheMetricsListener { snapshots.add(it) }
+        val otherListener = CacheMetricsListener { otherSnapshots.add(it) }
+        cacheManager.addMetricsListener(listener)
+        cacheManager.addMetricsListener(otherListener)
+
+        cacheManager.getOrFetch(testKey("products", ApiEndpoint.PAYMENT_PRODUCTS)) { "products" }
+        cacheManager.getOrFetch(testKey("products", ApiEndpoint.PAYMENT_PRODUCTS)) { "unused" }
+
+        assertEquals(1, snapshots.size)
+        assertEquals(1, otherSnapshots.size)
+        assertEquals(1, snapshots[0].endpoints.getValue(ApiEndpoint.PAYMENT_PRODUCTS).loadTimes.loads)
+    }
+
+    @Test
+    fun `removed metrics listeners are no longer notified`() = runTest {
+        val snapshots = mutableListOf<CacheMetricsSnapshot>()
+        val listener = CacheMetricsListener { snapshots.add(it) }
+        cacheManager.addMetricsListener(listener)
+        cacheManager.removeMetricsListener(listener)
+
+        cacheManager.getOrFetch(testKey("products", ApiEndpoint.PAYMENT_PRODUCTS)) { "products" }
+
+        assertTrue(snapshots.isEmpty())
+    }
+
+    @Test
+    fun `trimMemory drops all entries when the process is likely to be killed`() {
+        cacheManager.set(testKey("1"), "product")
+        cacheManager.set(testKey("411111", ApiEndpoint.IIN_DETAILS), "iin")
+
+        cacheManager.trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE)
+
+        assertFalse(cacheManager.hasCache(testKey("1")))
+        assertFalse(cacheManager.hasCache(testKey("411111", ApiEndpoint.IIN_DETAILS)))
+    }
+
+    @Test
+    fun `trimMemory halves the cache when the UI is hidden`() {
+        cacheManager.set(testKey("411111", ApiEndpoint.IIN_DETAILS), "first")
+        cacheManager.set(testKey("522222", ApiEndpoint.IIN_DETAILS), "second")
+        cacheManager.set(testKey("1"), "product")
+        cacheManager.set(testKey("2"), "product")
+
+        cacheManager.trimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+
+        assertFalse(cacheManager.hasCache(testKey("411111", ApiEndpoint.IIN_DETAILS)))
+        assertFalse(cacheManager.hasCache(testKey("522222", ApiEndpoint.IIN_DETAILS)))
+        assertTrue(cacheManager.hasCache(testKey("1")))
+        assertTrue(cacheManager.hasCache(testKey("2")))
+    }
+
+    @Test
+    fun `set evicts entries when the memory budget is exceeded`() {
+        val weight = CacheEntryWeigher.weigh("value").toLong()
+        val budgetedCache = CacheManager(maxWeight = 2 * weight)
+
+        budgetedCache.set(testKey("1"), "value")
+        budgetedCache.set(testKey("2"), "value")
+        budgetedCache.set(testKey("3"), "value")
+
+        assertFalse(budgetedCache.hasCache(testKey("1")))
+        assertTrue(budgetedCache.hasCache(testKey("2")))
+        assertTrue(budgetedCache.hasCache(testKey("3")))
+    }
+
+    @Test
+    fun `getOrFetch caches not found responses without calling fetch again`() = runTest {
+        var fetchCount = 0
+        val fetchNotFound: suspend () -> String = {
+            fetchCount++
+            throw ResponseException(httpStatusCode = 404, message = "Not found", apiError = ApiError())
+        }
+
+        val first = runCatching { cacheManager.getOrFetch(testKey("unknown"), fetch = fetchNotFound) }
+        val second = runCatching { cacheManager.getOrFetch(testKey("unknown"), fetch = fetchNotFound) }
+
+        assertEquals(1, fetchCount)
+        assertEquals(404, (first.exceptionOrNull() as ResponseException).httpStatusCode)
+        assertEquals(404, (second.exceptionOrNull() as ResponseException).httpStatusCode)
+        assertFalse(cacheManager.hasCache(testKey("unknown")))
+        assertEquals(1, cacheManager.metricsSnapshot().endpoints.getValue(ApiEndpoint.PAYMENT_PRODUCT).negativeHits)
+    }
+
+    @Test
+    fun `getOrFetch fetches again once a not found response expired`() = runTest {
+        val negativeCache = CacheManager(negativeTtlMillis = -1)
+
+        runCatching {
+            negativeCache.getOrFetch<String>(testKey("unknown")) {
+                throw ResponseException(httpStatusCode = 404, message = "Not found", apiError = ApiError())
+            }
+        }
+        val result = negativeCache.getOrFetch(testKey("unknown")) { "found" }
+
+        assertEquals("found", result)
+    }
+
+    @Test
+    fun `getOrFetch does not cache other error responses`() = runTest {
+        var fetchCount = 0
+
+        repeat(2) {
+            runCatching {
+                cacheManager.getOrFetch<String>(testKey("failing")) {
+                    fetchCount++
+                    throw ResponseException(httpStatusCode = 500, message = "Server error", apiError = ApiError())
+                }
+            }
+        }
+
+        assertEquals(2, fetchCount)
+    }
+
+    private fun testKey(name: String, endpoint: ApiEndpoint = ApiEndpoint.PAYMENT_PRODUCT): CacheKey {
+        return CacheKey(endpoint, suffix = name)
+    }
+}
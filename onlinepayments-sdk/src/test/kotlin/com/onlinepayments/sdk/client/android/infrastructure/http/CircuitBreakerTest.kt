@@ -0,0 +1,155 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.CircuitBreakerConfiguration
+import com.onlinepayments.sdk.client.android.domain.exceptions.ApiError
+import com.onlinepayments.sdk.client.android.domain.exceptions.CircuitBreakerOpenException
+import com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationException
+import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.async
+import kotlinx.coroutines.test.runCurrent
+import kotlinx.coroutines.test.runTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+class CircuitBreakerTest {
+
+    private var now = 0L
+    private var calls = 0
+    private val circuitBreaker = CircuitBreaker(
+        CircuitBreakerConfiguration(failureThreshold = 3, openDurationMillis = 1_000)
+    ) { now }
+
+    @Test
+    fun `circuit opens after consecutive failures and fails fast`() = runTest {
+        repeat(3) { fail(ApiEndpoint.SURCHARGE_CALCULATION) }
+
+        val exception = assertFailsWith<CircuitBreakerOpenException> {
+            circuitBreaker.execute(ApiEndpoint.SURCHARGE_CALCULATION) { calls++ }
+        }
+
+        assertEquals(3, calls)
+        assertEquals(1_000, exception.retryAfterMillis)
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state(ApiEndpoint.SURCHARGE_CALCULATION))
+        // Other endpoints have their own circuit
+        assertEquals("key", circuitBreaker.execute(ApiEndpoint.PUBLIC_KEY) { "key" })
+    }
+
+    @Test
+    fun `successful call resets the failure count`() = runTest {
+        repeat(2) { fail(ApiEndpoint.IIN_DETAILS) }
+        circuitBreaker.execute(ApiEndpoint.IIN_DETAILS) { calls++ }
+        repeat(2) { fail(ApiEndpoint.IIN_DETAILS) }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state(ApiEndpoint.IIN_DETAILS))
+    }
+
+    @Test
+    fun `successful trial call closes the circuit once the open duration has passed`() = runTest {
+        repeat(3) { fail(ApiEndpoint.PAYMENT_PRODUCT) }
+        now = 1_000
+
+        circuitBreaker.execute(ApiEndpoint.PAYMENT_PRODUCT) { calls++ }
+
+        assertEquals(4, calls)
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state(ApiEndpoint.PAYMENT_PRODUCT))
+    }
+
+    @Test
+    fun `failed trial call opens the circuit again`() = runTest {
+        repeat(3) { fail(ApiEndpoint.PAYMENT_PRODUCT) }
+        now = 1_500
+
+        fail(ApiEndpoint.PAYMENT_PRODUCT)
+
+        val exception = assertFailsWith<CircuitBreakerOpenException> {
+            circuitBreaker.execute(ApiEndpoint.PAYMENT_PRODUCT) { calls++ }
+        }
+        assertEquals(4, calls)
+        assertEquals(1_000, exception.retryAfterMillis)
+    }
+
+    @Test
+    fun `client errors do not count as failures`() = runTest {
+        repeat(5) {
+            assertFailsWith<ResponseException> {
+                circuitBreaker.execute(ApiEndpoint.IIN_DETAILS) {
+                    throw ResponseException(404, "Request failed with status: 404", ApiError())
+                }
+            }
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state(ApiEndpoint.IIN_DETAILS))
+    }
+
+    @Test
+    fun `server errors count as failures`() = runTest {
+        repeat(3) {
+            assertFailsWith<ResponseException> {
+                circuitBreaker.execute(ApiEndpoint.IIN_DETAILS) {
+                    throw ResponseException(503, "Request failed with status: 503", ApiError())
+                }
+            }
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state(ApiEndpoint.IIN_DETAILS))
+    }
+
+    @Test
+    fun `late success of a call let through before the circuit opened keeps it open`() = runTest {
+        val response = CompletableDeferred<String>()
+        val slowCall = async { circuitBreaker.execute(ApiEndpoint.PAYMENT_PRODUCTS) { response.await() } }
+        runCurrent()
+
+        repeat(3) { fail(ApiEndpoint.PAYMENT_PRODUCTS) }
+        response.complete("products")
+
+        assertEquals("products", slowCall.await())
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state(ApiEndpoint.PAYMENT_PRODUCTS))
+    }
+
+    @Test
+    fun `late failure of a call let through before the circuit opened does not decide the trial`() = runTest {
+        val response = CompletableDeferred<String>()
+        val slowCall = async {
+            runCatching { circuitBreaker.execute(ApiEndpoint.PAYMENT_PRODUCTS) { response.await() } }
+        }
+        runCurrent()
+        repeat(3) { fail(ApiEndpoint.PAYMENT_PRODUCTS) }
+        now = 1_000
+
+        val trialResponse = CompletableDeferred<String>()
+        val trialCall = async { circuitBreaker.execute(ApiEndpoint.PAYMENT_PRODUCTS) { trialResponse.await() } }
+        runCurrent()
+        response.completeExceptionally(CommunicationException("IOException while opening connection: timeout"))
+        slowCall.await()
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.state(ApiEndpoint.PAYMENT_PRODUCTS))
+
+        trialResponse.complete("products")
+
+        assertEquals("products", trialCall.await())
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state(ApiEndpoint.PAYMENT_PRODUCTS))
+    }
+
+    private suspend fun fail(endpoint: ApiEndpoint) {
+        assertFailsWith<CommunicationException> {
+            circuitBreaker.execute(endpoint) {
+                calls++
+                throw CommunicationException("IOException while opening connection: timeout")
+            }
+        }
+    }
+}
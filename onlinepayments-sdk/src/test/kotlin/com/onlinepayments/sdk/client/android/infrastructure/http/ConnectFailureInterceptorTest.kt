@@ -0,0 +1,60 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import com.onlinepayments.sdk.client.android.domain.configuration.TimeoutConfiguration
+import okhttp3.Request
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import java.net.ConnectException
+import java.net.SocketTimeoutException
+import java.util.concurrent.TimeUnit
+import kotlin.test.Test
+import kotlin.test.assertFailsWith
+import kotlin.test.assertIs
+
+class ConnectFailureInterceptorTest {
+
+    private val client = SharedHttpClient.newSessionClient(
+        emptyList(),
+        timeouts = TimeoutConfiguration(connectTimeoutMillis = 1_000, readTimeoutMillis = 200)
+    )
+
+    @Test
+    fun `failure to connect is marked as connect failure`() {
+        val server = MockWebServer()
+        server.start()
+        val url = server.url("/client/v1/products")
+        server.shutdown()
+
+        val exception = assertFailsWith<ConnectFailureException> {
+            client.newCall(Request.Builder().url(url).build()).execute()
+        }
+
+        assertIs<ConnectException>(exception.cause)
+    }
+
+    @Test
+    fun `read timeout is not marked as connect failure`() {
+        val server = MockWebServer()
+        server.enqueue(MockResponse().setBody("{}").setHeadersDelay(1, TimeUnit.SECONDS))
+        server.start()
+
+        try {
+            // Not wrapped, since the connection was set up before the timeout
+            assertFailsWith<SocketTimeoutException> {
+                client.newCall(Request.Builder().url(server.url("/client/v1/products")).build()).execute()
+            }
+        } finally {
+            server.shutdown()
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.configuration.RetryConfiguration
+import kotlinx.coroutines.test.runTest
+import okhttp3.ResponseBody.Companion.toResponseBody
+import retrofit2.HttpException
+import retrofit2.Response
+import java.io.EOFException
+import java.net.ConnectException
+import java.net.SocketTimeoutException
+import kotlin.random.Random
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+class RetryPolicyTest {
+
+    private val retries = mutableListOf<ApiEndpoint>()
+    private val retryPolicy = RetryPolicy(RetryConfiguration(maxAttempts = 3)) { retries.add(it) }
+
+    @Test
+    fun `idempotent call is retried on network errors until it succeeds`() = runTest {
+        var attempts = 0
+
+        val result = retryPolicy.execute(ApiEndpoint.PAYMENT_PRODUCTS, idempotent = true) {
+            attempts++
+            if (attempts < 3) throw SocketTimeoutException("timeout")
+            "products"
+        }
+
+        assertEquals("products", result)
+        assertEquals(3, attempts)
+        assertEquals(listOf(ApiEndpoint.PAYMENT_PRODUCTS, ApiEndpoint.PAYMENT_PRODUCTS), retries)
+    }
+
+    @Test
+    fun `last error is rethrown when all attempts failed`() = runTest {
+        var attempts = 0
+
+        assertFailsWith<ConnectException> {
+            retryPolicy.execute(ApiEndpoint.PUBLIC_KEY, idempotent = true) {
+                attempts++
+                throw ConnectException("attempt $attempts")
+            }
+        }
+
+        assertEquals(3, attempts)
+        assertEquals(2, retries.size)
+    }
+
+    @Test
+    fun `non-idempotent call is only retried when the connection failed`() = runTest {
+        var attempts = 0
+
+        val result = retryPolicy.execute(ApiEndpoint.IIN_DETAILS, idempotent = false) {
+            attempts++
+            if (attempts == 1) throw ConnectException("refused")
+            "iin"
+        }
+
+        assertEquals("iin", result)
+
+        assertFailsWith<SocketTimeoutException> {
+            retryPolicy.execute(ApiEndpoint.IIN_DETAILS, idempotent = false) {
+                throw SocketTimeoutException("timeout")
+            }
+        }
+
+        assertEquals(listOf(ApiEndpoint.IIN_DETAILS), retries)
+    }
+
+    @Test
+    fun `non-idempotent call is retried on a connect timeout whatever its message`() = runTest {
+        // Message of a connect timeout on Android
+        val connectTimeout = SocketTimeoutException(
+            "failed to connect to /192.0.2.1 (port 443) from /10.0.2.16 (port 41536) after 10000ms"
+        )
+        var attempts = 0
+
+        val result = retryPolicy.execute(ApiEndpoint.IIN_DETAILS, idempotent = false) {
+            attempts++
+            if (attempts == 1) throw ConnectFailureException(connectTimeout)
+            "iin"
+        }
+
+        assertEquals("iin", result)
+        // Without the connect phase marked, the same timeout may have happened after the request was sent
+        assertFailsWith<SocketTimeoutException> {
+            retryPolicy.execute(ApiEndpoint.IIN_DETAILS, idempotent = false) { throw connectTimeout }
+        }
+        assertFailsWith<SocketTimeoutException> {
+            retryPolicy.execute(ApiEndpoint.IIN_DETAILS, idempotent = false) {
+                throw SocketTimeoutException("connect timed out")
+            }
+        }
+
+        assertEquals(listOf(ApiEndpoint.IIN_DETAILS), retries)
+    }
+
+    @Test
+    fun `error responses and parse errors are not retried`() = runTest {
+        val errorResponse = Response.error<String>(503, "".toResponseBody())
+
+        assertFailsWith<HttpException> {
+            retryPolicy.execute(ApiEndpoint.PAYMENT_PRODUCT, idempotent = true) { throw HttpException(errorResponse) }
+        }
+        assertFailsWith<EOFException> {
+            retryPolicy.execute(ApiEndpoint.PAYMENT_PRODUCT, idempotent = true) { throw EOFException() }
+        }
+
+        assertTrue(retries.isEmpty())
+    }
+
+    @Test
+    fun `no retry is started when the backoff would pass the deadline`() = runTest {
+        val policy = RetryPolicy(
+            RetryConfiguration(maxAttempts = 5, initialBackoffMillis = 1_000, deadlineMillis = 100)
+        ) { retries.add(it) }
+        var attempts = 0
+
+        assertFailsWith<ConnectException> {
+            policy.execute(ApiEndpoint.PAYMENT_PRODUCTS, idempotent = true) {
+                attempts++
+                throw ConnectException()
+            }
+        }
+
+        assertEquals(1, attempts)
+    }
+
+    @Test
+    fun `backoff grows exponentially up to the maximum with up to half of it as jitter`() {
+        val configuration = RetryConfiguration(initialBackoffMillis = 100, maxBackoffMillis = 1_000)
+        val policy = RetryPolicy(configuration, random = Random(42))
+
+        listOf(100L, 200L, 400L, 800L, 1_000L, 1_000L).forEachIndexed { index, expected ->
+            val backoff = policy.backoffMillis(index + 1)
+
+            assertTrue(backoff in expected / 2..expected, "attempt ${index + 1} waited $backoff ms")
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.http
+
+import okhttp3.Interceptor
+import okhttp3.Request
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNotSame
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+class SharedHttpClientTest {
+
+    @Test
+    fun `session clients share the connection pool, dispatcher and socket factory`() {
+        val first = SharedHttpClient.newSessionClient(listOf(Interceptor { it.proceed(it.request()) }))
+        val second = SharedHttpClient.newSessionClient(listOf(Interceptor { it.proceed(it.request()) }))
+
+        assertNotSame(first, second)
+        assertSame(first.connectionPool, second.connectionPool)
+        assertSame(first.dispatcher, second.dispatcher)
+        assertSame(first.sslSocketFactory, second.sslSocketFactory)
+    }
+
+    @Test
+    fun `session clients only add their own interceptors`() {
+        val interceptor = Interceptor { it.proceed(it.request()) }
+
+        val client = SharedHttpClient.newSessionClient(listOf(interceptor))
+
+        assertEquals(SharedHttpClient.client.interceptors + interceptor, client.interceptors)
+        assertEquals(SharedHttpClient.client.interceptors, SharedHttpClient.newSessionClient(emptyList()).interceptors)
+    }
+
+    @Test
+    fun `warmUp opens a connection that session clients reuse`() {
+        val server = MockWebServer()
+        server.enqueue(MockResponse().setResponseCode(404))
+        server.enqueue(MockResponse().setBody("{}"))
+        server.start()
+
+        try {
+            val warmedUp = CountDownLatch(1)
+
+            assertTrue(SharedHttpClient.warmUp(server.url("/client/v1/").toString()) { warmedUp.countDown() })
+            assertTrue(warmedUp.await(5, TimeUnit.SECONDS))
+
+            val sessionClient = SharedHttpClient.newSessionClient(emptyList())
+            sessionClient.newCall(Request.Builder().url(server.url("/client/v1/products")).build())
+                .execute()
+                .close()
+
+            val warmUpRequest = server.takeRequest()
+            val firstRequest = server.takeRequest()
+
+            assertEquals("HEAD", warmUpRequest.method)
+            assertEquals("GET", firstRequest.method)
+            // A sequence number above zero means the request was sent on an already open connection
+            assertEquals(1, firstRequest.sequenceNumber)
+        } finally {
+            server.shutdown()
+        }
+    }
+
+    @Test
+    fun `warmUp rejects invalid URLs`() {
+        assertFalse(SharedHttpClient.warmUp("not a url"))
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.infrastructure.json
+
+import com.google.gson.JsonParseException
+import com.onlinepayments.sdk.client.android.domain.accountOnFile.AccountOnFileAttribute
+import com.onlinepayments.sdk.client.android.domain.exceptions.ApiError
+import com.onlinepayments.sdk.client.android.domain.iin.CardType
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductField
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PaymentProductFieldType
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.productField.PreferredInputType
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleLength
+import com.onlinepayments.sdk.client.android.domain.validation.rules.ValidationRuleLuhn
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.accountOnFile.AccountOnFileDto
+import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
+import com.onlinepayments.sdk.client.android.testUtil.GsonHelper
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
+import kotlin.test.assertIs
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class ApiJsonTest {
+
+    private val gson = ApiJson.gson
+
+    @Test
+    fun `payment product is read straight into the domain model`() {
+        val product = GsonHelper.fromResourceJson("paymentProductVisa.json", PaymentProduct::class.java)
+
+        // "id" is a JSON string in this response, the account on file id a JSON number
+        assertEquals(1, product.id)
+        assertEquals("card", product.paymentMethod)
+        assertEquals("123", product.accountsOnFile.first().id)
+        assertEquals(
+            AccountOnFileAttribute.Status.CAN_WRITE,
+            product.accountsOnFile.first().attributes.last().status
+        )
+        assertNull(product.paymentProduct302SpecificData)
+        assertEquals(4, product.fields.size)
+
+        val cardNumber = product.getField("cardNumber")!!
+
+        assertEquals(PaymentProductFieldType.NUMERICSTRING, cardNumber.type)
+        assertEquals(PreferredInputType.STRING_KEYBOARD, cardNumber.displayHints.preferredInputType)
+        assertEquals("TEXT", cardNumber.displayHints.formElementType)
+        assertEquals(19, (cardNumber.dataRestrictions.validationRules.last() as ValidationRuleLength).getMaxLength())
+        assertIs<ValidationRuleLuhn>(cardNumber.dataRestrictions.validationRules.first())
+    }
+
+    @Test
+    fun `fields are put in display order while they are read`() {
+        val product = gson.fromJson(
+            """
+            {"id": 1, "fields": [
+                {"id": "c", "displayHints": {"displayOrder": 3}},
+                {"id": "none"},
+                {"id": "a", "displayHints": {"displayOrder": 1}},
+                {"id": "b1", "displayHints": {"displayOrder": 2}},
+                {"id": "b2", "displayHints": {"displayOrder": 2}}
+            ]}
+            """.trimIndent(),
+            PaymentProduct::class.java
+        )
+
+        assertEquals(listOf("a", "b1", "b2", "c", "none"), product.fields.map { it.id })
+    }
+
+    @Test
+    fun `payment product survives a round trip`() {
+        val product = GsonHelper.fromResourceJson("paymentProductVisa.json", PaymentProduct::class.java)
+
+        val copy = gson.fromJson(gson.toJson(product), PaymentProduct::class.java)
+
+        assertEquals(product.id, copy.id)
+        assertEquals(product.label, copy.label)
+        assertEquals(product.allowsTokenization, copy.allowsTokenization)
+        assertEquals(product.accountsOnFile.map { it.label }, copy.accountsOnFile.map { it.label })
+        assertEquals(product.fields.map { it.id }, copy.fields.map { it.id })
+        assertEquals(
+            product.fields.map { field -> field.dataRestrictions.validationRules.map { it.type } },
+            copy.fields.map { field -> field.dataRestrictions.validationRules.map { it.type } }
+        )
+        assertEquals(
+            product.fields.map { it.displayHints.formElementType },
+            copy.fields.map { it.displayHints.formElementType }
+        )
+    }
+
+    @Test
+    fun `payment products survive a round trip`() {
+        val products = GsonHelper.fromResourceJson("paymentProducts.json", BasicPaymentProductsDto::class.java)
+
+        val copy = gson.fromJson(gson.toJson(products), BasicPaymentProductsDto::class.java)
+
+        assertEquals(products.paymentProducts?.map { it.id }, copy.paymentProducts?.map { it.id })
+        assertEquals(
+            products.paymentProducts?.map { it.displayHints },
+            copy.paymentProducts?.map { it.displayHints }
+        )
+    }
+
+    @Test
+    fun `missing properties get their default values`() {
+        val response = GsonHelper.fromResourceJson("minimalIINResponseVisa.json", IinDetailsResponse::class.java)
+        val error = gson.fromJson("""{"errors": [{"errorCode": 50001130}]}""", ApiError::class.java)
+
+        assertEquals("1", response.paymentProductId)
+        assertEquals(CardType.DEBIT, response.cardType)
+        assertFalse(response.isAllowedInContext)
+        assertEquals("50001130", error.errors?.single()?.errorCode)
+        assertEquals("This error does not contain a message", error.errors?.single()?.message)
+    }
+
+    @Test
+    fun `unknown properties and enum values are ignored`() {
+        val field = gson.fromJson(
+            """{"id": "cvv", "type": "unknown", "extra": {"nested": [1, 2]}}""",
+            PaymentProductField::class.java
+        )
+
+        assertEquals("cvv", field.id)
+        assertNull(field.type)
+        assertTrue(field.dataRestrictions.validationRules.isEmpty())
+    }
+
+    @Test
+    fun `missing required properties fail`() {
+        assertFailsWith<JsonParseException> {
+            gson.fromJson("""{"paymentProductId": 1, "attributes": []}""", AccountOnFileDto::class.java)
+        }
+    }
+}
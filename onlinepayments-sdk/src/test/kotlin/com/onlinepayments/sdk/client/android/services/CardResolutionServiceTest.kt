@@ -0,0 +1,128 @@
+/*
+ * Do not remove or alter the notices in this preamble.
+ *
+ * Copyright © 2026 Worldline and/or its affiliates.
+ *
+ * All rights reserved. License grant and user rights and obligations according to the applicable license agreement.
+ *
+ * Please contact Worldline for questions regarding license and user rights.
+ */
+
+package com.onlinepayments.sdk.client.android.services
+
+import com.onlinepayments.sdk.client.android.domain.AmountOfMoneyWithAmount
+import com.onlinepayments.sdk.client.android.domain.PaymentContextWithAmount
+import com.onlinepayments.sdk.client.android.domain.card.CardResolutionOptions
+import com.onlinepayments.sdk.client.android.domain.configuration.ApiEndpoint
+import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionResponse
+import com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationException
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailStatus
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
+import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
+import com.onlinepayments.sdk.client.android.services.interfaces.IClientService
+import com.onlinepayments.sdk.client.android.services.interfaces.IPaymentProductService
+import io.mockk.coEvery
+import io.mockk.coVerify
+import io.mockk.mockk
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.test.runTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertIs
+import kotlin.test.assertNull
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+class CardResolutionServiceTest {
+
+    private val clientService = mockk<IClientService>()
+    private val paymentProductService = mockk<IPaymentProductService>()
+    private val cardResolutionService = CardResolutionService(clientService, paymentProductService)
+
+    private val paymentContext = PaymentContextWithAmount(AmountOfMoneyWithAmount(1000L, "EUR"), "NL")
+    private val supported = IinDetailsResponse(paymentProductId = "1", isAllowedInContext = true).also {
+        it.status = IinDetailStatus.SUPPORTED
+    }
+
+    @Test
+    fun `product, surcharge and quote are retrieved at the same time after the IIN lookup`() = runTest {
+        val paymentProduct = mockk<PaymentProduct>()
+        val surcharge = mockk<SurchargeCalculationResponse>()
+        val quote = mockk<CurrencyConversionResponse>()
+
+        coEvery { clientService.getIinDetails("411111", paymentContext) } coAnswers {
+            delay(100)
+            supported
+        }
+        coEvery { paymentProductService.getPaymentProduct(1, paymentContext) } coAnswers {
+            delay(100)
+            paymentProduct
+        }
+        coEvery { clientService.getSurchargeCalculation(any(), any()) } coAnswers {
+            delay(100)
+            surcharge
+        }
+        coEvery { clientService.getCurrencyConversionQuote(any(), any()) } coAnswers {
+            delay(100)
+            quote
+        }
+
+        val resolution = cardResolutionService.resolveCard(
+            "411111",
+            paymentContext,
+            CardResolutionOptions(surchargeCalculation = true, currencyConversion = true)
+        )
+
+        assertSame(supported, resolution.iinDetails)
+        assertSame(paymentProduct, resolution.paymentProduct)
+        assertSame(surcharge, resolution.surchargeCalculation)
+        assertSame(quote, resolution.currencyConversion)
+        assertTrue(resolution.isComplete)
+        assertEquals(200, testScheduler.currentTime)
+    }
+
+    @Test
+    fun `parts that fail are reported without failing the resolution`() = runTest {
+        val paymentProduct = mockk<PaymentProduct>()
+
+        coEvery { clientService.getIinDetails(any(), any()) } returns supported
+        coEvery { paymentProductService.getPaymentProduct(1, paymentContext) } returns paymentProduct
+        coEvery {
+            clientService.getSurchargeCalculation(any(), any())
+        } throws CommunicationException("IOException while opening connection: timeout")
+
+        val resolution = cardResolutionService.resolveCard(
+            "411111",
+            paymentContext,
+            CardResolutionOptions(surchargeCalculation = true)
+        )
+
+        assertSame(paymentProduct, resolution.paymentProduct)
+        assertNull(resolution.surchargeCalculation)
+        assertFalse(resolution.isComplete)
+        assertIs<CommunicationException>(resolution.errors[ApiEndpoint.SURCHARGE_CALCULATION])
+        coVerify(exactly = 0) { clientService.getCurrencyConversionQuote(any(), any()) }
+    }
+
+    @Test
+    fun `nothing else is retrieved when the IIN is not supported`() = runTest {
+        val notAllowed = IinDetailsResponse(paymentProductId = "1").also {
+            it.status = IinDetailStatus.EXISTING_BUT_NOT_ALLOWED
+        }
+
+        coEvery { clientService.getIinDetails(any(), any()) } returns notAllowed
+
+        val resolution = cardResolutionService.resolveCard(
+            "411111",
+            paymentContext,
+            CardResolutionOptions(surchargeCalculation = true, currencyConversion = true)
+        )
+
+        assertSame(notAllowed, resolution.iinDetails)
+        assertNull(resolution.paymentProduct)
+        assertTrue(resolution.isComplete)
+        coVerify(exactly = 0) { paymentProductService.getPaymentProduct(any(), any()) }
+    }
+}
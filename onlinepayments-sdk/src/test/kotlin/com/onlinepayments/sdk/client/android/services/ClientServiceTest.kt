@@ -17,7 +17,13 @@ import com.onlinepayments.sdk.client.android.domain.card.Card
 import com.onlinepayments.sdk.client.android.domain.card.CardSource
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
 import com.onlinepayments.sdk.client.android.domain.currencyConversion.CurrencyConversionResponse
+import com.onlinepayments.sdk.client.android.domain.exceptions.ApiError
+import com.onlinepayments.sdk.client.android.domain.exceptions.CommunicationException
+import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
+import com.onlinepayments.sdk.client.android.domain.iin.BinRangeIndex
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetail
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailStatus
+import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsRequest
 import com.onlinepayments.sdk.client.android.domain.iin.IinDetailsResponse
 import com.onlinepayments.sdk.client.android.domain.surchargeCalculation.SurchargeCalculationResponse
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
@@ -30,12 +36,17 @@ import io.mockk.coEvery
 import io.mockk.coVerify
 import io.mockk.every
 import io.mockk.mockk
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.test.runTest
 import retrofit2.HttpException
 import kotlin.test.BeforeTest
 import kotlin.test.Test
 import kotlin.test.assertEquals
+import kotlin.test.assertIs
 import kotlin.test.assertNotNull
+import kotlin.test.assertNull
 
 class ClientServiceTest {
 
@@ -157,6 +168,186 @@ class ClientServiceTest {
         assertEquals(IinDetailStatus.UNKNOWN, result.status)
     }
 
+    @Test
+    fun `getIinDetails does not call the API again for an unknown IIN`() = runTest {
+        coEvery {
+            apiClient.getIinDetails(any(), any())
+        } throws ResponseException(httpStatusCode = 404, message = "Not found", apiError = ApiError())
+
+        val first = clientService.getIinDetails("999999", paymentContext)
+        val second = clientService.getIinDetails("999999", paymentContext)
+
+        assertEquals(IinDetailStatus.UNKNOWN, first.status)
+        assertEquals(IinDetailStatus.UNKNOWN, second.status)
+        coVerify(exactly = 1) { apiClient.getIinDetails(any(), any()) }
+    }
+
+    @Test
+    fun `getIinDetails answers longer prefixes with the product settled by a shorter prefix`() = runTest {
+        val iinResponseDto = GsonHelper.fromResourceJson("iinDetailsResponse.json", IinDetailsResponse::class.java)
+
+        coEvery {
+            apiClient.getIinDetails(any(), any())
+        } returns iinResponseDto
+
+        val first = clientService.getIinDetails("411111", paymentContext)
+        val second = clientService.getIinDetails("4111112", paymentContext)
+
+        assertEquals(IinDetailStatus.SUPPORTED, second.status)
+        assertEquals(first.paymentProductId, second.paymentProductId)
+        assertNull(second.countryCode)
+        assertNull(second.cardType)
+        coVerify(exactly = 1) { apiClient.getIinDetails(any(), any()) }
+    }
+
+    @Test
+    fun `getIinDetails looks up a number of the full lookup length despite a shorter prefix`() = runTest {
+        val iinResponseDto = GsonHelper.fromResourceJson("iinDetailsResponse.json", IinDetailsResponse::class.java)
+
+        coEvery {
+            apiClient.getIinDetails(any(), any())
+        } returns iinResponseDto
+
+        clientService.getIinDetails("411111", paymentContext)
+        val result = clientService.getIinDetails("41111122", paymentContext)
+
+        assertEquals(iinResponseDto.countryCode, result.countryCode)
+        coVerify(exactly = 2) { apiClient.getIinDetails(any(), any()) }
+    }
+
+    @Test
+    fun `getIinDetails looks up longer prefixes of a co-branded card`() = runTest {
+        val coBranded = mockk<IinDetailsResponse>(relaxed = true)
+
+        every { coBranded.paymentProductId } returns "1"
+        every { coBranded.isAllowedInContext } returns true
+        every { coBranded.coBrands } returns mutableListOf(IinDetail(true, "1"), IinDetail(true, "3"))
+
+        coEvery {
+            apiClient.getIinDetails(any(), any())
+        } returns coBranded
+
+        clientService.getIinDetails("411111", paymentContext)
+        clientService.getIinDetails("4111112", paymentContext)
+
+        coVerify(exactly = 2) { apiClient.getIinDetails(any(), any()) }
+    }
+
+    @Test
+    fun `getIinDetails looks up longer prefixes of an unknown IIN`() = runTest {
+        coEvery {
+            apiClient.getIinDetails(any(), any())
+        } throws ResponseException(httpStatusCode = 404, message = "Not found", apiError = ApiError())
+
+        clientService.getIinDetails("999999", paymentContext)
+        clientService.getIinDetails("9999991", paymentContext)
+
+        coVerify(exactly = 2) { apiClient.getIinDetails(any(), any()) }
+    }
+
+    @Test
+    fun `getIinDetails flow only looks up the latest partial card number`() = runTest {
+        val iinResponseDto = GsonHelper.fromResourceJson("iinDetailsResponse.json", IinDetailsResponse::class.java)
+        val bins = mutableListOf<String?>()
+
+        coEvery {
+            apiClient.getIinDetails(any(), any())
+        } coAnswers {
+            bins.add(secondArg<IinDetailsRequest>().bin)
+            iinResponseDto
+        }
+
+        val partialCardNumbers = flow {
+            emit("411111")
+            delay(100)
+            emit("4111112")
+            delay(100)
+            emit("41111122")
+            // Beyond the digits used for the lookup
+            emit("411111223")
+        }
+
+        val results = clientService.getIinDetails(partialCardNumbers, paymentContext, 300).toList()
+
+        assertEquals(listOf<String?>("41111122"), bins)
+        assertEquals(IinDetailStatus.SUPPORTED, results.single().getOrThrow().status)
+    }
+
+    @Test
+    fun `getIinDetails flow cancels the lookup of an outdated partial card number`() = runTest {
+        val iinResponseDto = GsonHelper.fromResourceJson("iinDetailsResponse.json", IinDetailsResponse::class.java)
+        val completed = mutableListOf<String?>()
+
+        coEvery {
+            apiClient.getIinDetails(any(), any())
+        } coAnswers {
+            delay(1000)
+            completed.add(secondArg<IinDetailsRequest>().bin)
+            iinResponseDto
+        }
+
+        val partialCardNumbers = flow {
+            emit("411111")
+            // The first lookup is in flight when the next digit is typed
+            delay(500)
+            emit("4111112")
+        }
+
+        val results = clientService.getIinDetails(partialCardNumbers, paymentContext, 300).toList()
+
+        assertEquals(listOf<String?>("4111112"), completed)
+        assertEquals(1, results.size)
+    }
+
+    @Test
+    fun `getIinDetails flow continues after a failed lookup`() = runTest {
+        val iinResponseDto = GsonHelper.fromResourceJson("iinDetailsResponse.json", IinDetailsResponse::class.java)
+
+        coEvery {
+            apiClient.getIinDetails(any(), match { it.bin == "411111" })
+        } throws CommunicationException("IOException while opening connection: timeout")
+        coEvery {
+            apiClient.getIinDetails(any(), match { it.bin == "4111112" })
+        } returns iinResponseDto
+
+        val partialCardNumbers = flow {
+            emit("411111")
+            delay(500)
+            emit("4111112")
+        }
+
+        val results = clientService.getIinDetails(partialCardNumbers, paymentContext, 300).toList()
+
+        assertIs<CommunicationException>(results.first().exceptionOrNull())
+        assertEquals(IinDetailStatus.SUPPORTED, results.last().getOrThrow().status)
+    }
+
+    @Test
+    fun `getIinDetails flow emits a provisional answer before the IIN details`() = runTest {
+        val iinResponseDto = GsonHelper.fromResourceJson("iinDetailsResponse.json", IinDetailsResponse::class.java)
+        val binRangeIndex = BinRangeIndex(intArrayOf(400_000), intArrayOf(499_999), intArrayOf(1))
+        val service = ClientService(apiClient, sessionData, cacheManager, binRangeIndex)
+
+        coEvery {
+            apiClient.getIinDetails(any(), any())
+        } returns iinResponseDto
+
+        val partialCardNumbers = flow {
+            emit("4")
+            delay(500)
+            emit("411111")
+        }
+
+        val results = service.getIinDetails(partialCardNumbers, paymentContext, 300).toList()
+
+        assertEquals(
+            listOf(IinDetailStatus.PROVISIONAL, IinDetailStatus.PROVISIONAL, IinDetailStatus.SUPPORTED),
+            results.map { it.getOrThrow().status }
+        )
+        assertEquals("1", results.first().getOrThrow().paymentProductId)
+        coVerify(exactly = 1) { apiClient.getIinDetails(any(), any()) }
+    }
+
     @Test
     fun `getCurrencyConversionQuote with PartialCard returns response`() = runTest {
         val responseDto = GsonHelper.fromResourceJson(
@@ -350,6 +541,28 @@ class ClientServiceTest {
         }
     }
 
+    @Test
+    fun `getSurchargeCalculation uses cache when more digits than the BIN are typed`() = runTest {
+        val responseDto = GsonHelper.fromResourceJson(
+            "surchargeCalculationResponse.json",
+            SurchargeCalculationResponse::class.java
+        )
+
+        coEvery {
+            apiClient.getSurchargeCalculation(any(), any())
+        } returns responseDto
+
+        val amountOfMoney = AmountOfMoney(1000L, "EUR")
+
+        clientService.getSurchargeCalculation(amountOfMoney, CardSource(Card("41111111", 1)))
+        clientService.getSurchargeCalculation(amountOfMoney, CardSource(Card("411111111111", 1)))
+        clientService.getSurchargeCalculation(AmountOfMoney(2000L, "EUR"), CardSource(Card("411111111111", 1)))
+
+        coVerify(exactly = 2) {
+            apiClient.getSurchargeCalculation(sessionData.customerId, any())
+        }
+    }
+
     @Test
     fun `getSurchargeCalculation cache invalidates with different card number`() = runTest {
         val responseDto = GsonHelper.fromResourceJson(
@@ -12,11 +12,10 @@ package com.onlinepayments.sdk.client.android.services
 
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
 import com.onlinepayments.sdk.client.android.domain.exceptions.InvalidArgumentException
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.CreditCardTokenRequest
 import com.onlinepayments.sdk.client.android.domain.paymentRequest.PaymentRequest
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.publicKey.PublicKeyResponseDto
-import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.mocks.MockContext
 import com.onlinepayments.sdk.client.android.mocks.MockEncoding
@@ -183,14 +182,13 @@ class EncryptionServiceTest {
             "publicKeyResponse.json",
             PublicKeyResponseDto::class.java
         )
-        val paymentProductDto = GsonHelper.fromResourceJson(
+        val paymentProduct = GsonHelper.fromResourceJson(
             "paymentProductForPaymentRequest.json",
-            PaymentProductDto::class.java
+            PaymentProduct::class.java
         )
 
         val realEncryptionService = EncryptionService(apiClient, sessionData, MockContext.setup())
 
-        val paymentProduct = PaymentProductFactory().createPaymentProduct(paymentProductDto)
         val request = PaymentRequest(paymentProduct)
 
         request.setValue("cvv", "123")
@@ -219,14 +217,13 @@ class EncryptionServiceTest {
                 "publicKeyResponse.json",
                 PublicKeyResponseDto::class.java
             )
-            val paymentProductDto = GsonHelper.fromResourceJson(
+            val paymentProduct = GsonHelper.fromResourceJson(
                 "paymentProductForPaymentRequest.json",
-                PaymentProductDto::class.java
+                PaymentProduct::class.java
             )
 
             val realEncryptionService = EncryptionService(apiClient, sessionData, MockContext.setup())
 
-            val paymentProduct = PaymentProductFactory().createPaymentProduct(paymentProductDto)
             val paymentRequest = PaymentRequest(paymentProduct)
 
             paymentRequest.getField("cardNumber").setValue("7822551678890142249")
@@ -256,14 +253,13 @@ class EncryptionServiceTest {
                 "publicKeyResponse.json",
                 PublicKeyResponseDto::class.java
             )
-            val paymentProductDto = GsonHelper.fromResourceJson(
+            val paymentProduct = GsonHelper.fromResourceJson(
                 "paymentProductForPaymentRequest.json",
-                PaymentProductDto::class.java
+                PaymentProduct::class.java
             )
 
             val realEncryptionService = EncryptionService(apiClient, sessionData, MockContext.setup())
 
-            val paymentProduct = PaymentProductFactory().createPaymentProduct(paymentProductDto)
             val paymentRequest = PaymentRequest(paymentProduct)
 
             paymentRequest.getField("cardNumber").setValue("4222422242224222")
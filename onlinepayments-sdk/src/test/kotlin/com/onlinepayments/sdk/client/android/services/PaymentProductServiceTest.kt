@@ -20,26 +20,34 @@ import com.onlinepayments.sdk.client.android.domain.PaymentContextWithAmount
 import com.onlinepayments.sdk.client.android.domain.configuration.SdkConfiguration
 import com.onlinepayments.sdk.client.android.domain.configuration.SessionData
 import com.onlinepayments.sdk.client.android.domain.exceptions.ResponseException
+import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProduct
 import com.onlinepayments.sdk.client.android.domain.paymentProduct.PaymentProductNetworksResponse
 import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.BasicPaymentProductsDto
-import com.onlinepayments.sdk.client.android.infrastructure.apiModels.paymentProduct.PaymentProductDto
 import com.onlinepayments.sdk.client.android.infrastructure.factories.PaymentProductFactory
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IApiClient
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.ICacheManager
 import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPaymentProductFactory
+import com.onlinepayments.sdk.client.android.infrastructure.interfaces.IPersistentCache
 import com.onlinepayments.sdk.client.android.infrastructure.utils.CacheManager
 import com.onlinepayments.sdk.client.android.services.interfaces.IPaymentProductService
 import com.onlinepayments.sdk.client.android.testUtil.GsonHelper
 import io.mockk.clearAllMocks
 import io.mockk.coEvery
 import io.mockk.coVerify
+import io.mockk.every
 import io.mockk.mockk
+import io.mockk.slot
+import kotlinx.coroutines.delay
 import kotlinx.coroutines.test.runTest
+import java.util.concurrent.atomic.AtomicInteger
 import kotlin.test.BeforeTest
 import kotlin.test.Test
 import kotlin.test.assertEquals
 import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
+import kotlin.test.assertIs
 import kotlin.test.assertNotNull
+import kotlin.test.assertTrue
 
 class PaymentProductServiceTest {
 
@@ -292,9 +300,9 @@ class PaymentProductServiceTest {
 
     @Test
     fun `getPaymentProduct cache invalidates with different payment context`() = runTest {
-        val dto = GsonHelper.fromResourceJson(
+        val paymentProduct = GsonHelper.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto::class.java
+            PaymentProduct::class.java
         )
 
         val differentContext = PaymentContext(
@@ -308,7 +316,7 @@ class PaymentProductServiceTest {
                 productId = "1",
                 params = paymentContext.toMap()
             )
-        } returns dto
+        } returns paymentProduct
 
         coEvery {
             apiClient.getPaymentProduct(
@@ -316,7 +324,7 @@ class PaymentProductServiceTest {
                 productId = "1",
                 params = differentContext.toMap()
             )
-        } returns dto
+        } returns paymentProduct
 
         val result1 = paymentProductService.getPaymentProduct(1, paymentContext)
 
@@ -377,6 +385,88 @@ class PaymentProductServiceTest {
         }
     }
 
+    @Test
+    fun `getPaymentProducts returns products and errors per product id`() = runTest {
+        prepareProductClientResponse()
+
+        val result = paymentProductService.getPaymentProducts(
+            listOf(1, Constants.PAYMENT_PRODUCT_ID_APPLEPAY, 1),
+            paymentContext
+        )
+
+        assertEquals(listOf(1), result.paymentProducts.map { it.id })
+        assertEquals(setOf(Constants.PAYMENT_PRODUCT_ID_APPLEPAY), result.errors.keys)
+        assertIs<ResponseException>(result.errors[Constants.PAYMENT_PRODUCT_ID_APPLEPAY])
+        assertFalse(result.isComplete)
+
+        coVerify(exactly = 1) {
+            apiClient.getPaymentProduct(
+                customerId = sessionData.customerId,
+                productId = "1",
+                params = paymentContext.toMap()
+            )
+        }
+    }
+
+    @Test
+    fun `getPaymentProducts fetches at most maxConcurrentProductRequests products at a time`() = runTest {
+        val paymentProduct = GsonHelper.fromResourceJson(
+            "cardPaymentProduct.json",
+            PaymentProduct::class.java
+        )
+        val running = AtomicInteger()
+        val maxRunning = AtomicInteger()
+
+        coEvery {
+            apiClient.getPaymentProduct(any(), any(), any())
+        } coAnswers {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), ::maxOf)
+            delay(100)
+            running.decrementAndGet()
+            paymentProduct
+        }
+
+        val service = PaymentProductService(
+            apiClient = apiClient,
+            context = context,
+            sessionData = sessionData,
+            configuration = sdkConfiguration.copy(maxConcurrentProductRequests = 2),
+            cacheManager = cacheManager,
+            paymentProductFactory = paymentProductFactory
+        )
+
+        val result = service.getPaymentProducts(listOf(1, 2, 3, 4, 5), paymentContext)
+
+        assertEquals(5, result.paymentProducts.size)
+        assertTrue(result.isComplete)
+        assertEquals(2, maxRunning.get())
+        assertEquals(300, testScheduler.currentTime)
+    }
+
+    @Test
+    fun `getBasicPaymentProducts does not persist accounts on file`() = runTest {
+        prepareBasicProductsClientResponse()
+        val persistentCache = mockk<IPersistentCache>(relaxed = true)
+        every { persistentCache.read(any(), BasicPaymentProductsDto::class.java) } returns null
+        val persisted = slot<Any>()
+        every { persistentCache.write(any(), capture(persisted)) } returns Unit
+        val service = PaymentProductService(
+            apiClient = apiClient,
+            context = context,
+            sessionData = sessionData,
+            configuration = sdkConfiguration,
+            cacheManager = CacheManager(persistentCache = persistentCache),
+            paymentProductFactory = paymentProductFactory
+        )
+
+        val result = service.getBasicPaymentProducts(paymentContext)
+
+        assertTrue(result.accountsOnFile.isNotEmpty())
+        val persistedProducts = assertIs<BasicPaymentProductsDto>(persisted.captured).paymentProducts
+        assertTrue(persistedProducts.orEmpty().isNotEmpty())
+        assertTrue(persistedProducts.orEmpty().all { it.accountsOnFile == null })
+    }
+
     private fun prepareBasicProductsClientResponse() {
         val dto = GsonHelper.fromResourceJson(
             "basicPaymentProducts.json",
@@ -392,9 +482,9 @@ class PaymentProductServiceTest {
     }
 
     private fun prepareProductClientResponse() {
-        val dto = GsonHelper.fromResourceJson(
+        val paymentProduct = GsonHelper.fromResourceJson(
             "cardPaymentProduct.json",
-            PaymentProductDto::class.java
+            PaymentProduct::class.java
         )
 
         coEvery {
@@ -403,6 +493,6 @@ class PaymentProductServiceTest {
                 productId = "1",
                 params = paymentContext.toMap()
             )
-        } returns dto
+        } returns paymentProduct
     }
 }
\ No newline at end of file
@@ -11,11 +11,13 @@
 package com.onlinepayments.sdk.client.android.testUtil
 
 import com.google.gson.Gson
+import com.onlinepayments.sdk.client.android.infrastructure.json.ApiJson
 import java.io.IOException
 import java.io.InputStreamReader
 
 object GsonHelper {
-    private val gson = Gson()
+    // Reads fixtures the way the SDK reads API responses
+    private val gson: Gson = ApiJson.gson
 
     fun <T> fromResourceJson(resource: String?, classOfT: Class<T>): T {
         try {